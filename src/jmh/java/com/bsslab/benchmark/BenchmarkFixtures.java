@@ -0,0 +1,57 @@
+package com.bsslab.benchmark;
+
+import com.bsslab.domain.user.entity.User;
+import com.bsslab.global.security.jwt.JwtKeyRing;
+import com.bsslab.global.security.jwt.JwtProperties;
+import com.bsslab.global.security.jwt.JwtUtils;
+import com.bsslab.global.security.service.UserPrincipal;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+/**
+ * 벤치마크 공통 객체 (Spring 컨텍스트 없이 직접 생성)
+ */
+final class BenchmarkFixtures {
+
+    static final String USERNAME = "benchmark-user";
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 키 저장소 파일 없이 jwt.secret에서 만든 키로 서명하는 JwtUtils
+     */
+    static JwtUtils jwtUtils() {
+        return jwtUtils(new JwtProperties().getClaimsCacheSize());
+    }
+
+    /**
+     * claimsCacheSize가 0이면 검증 결과 캐시가 사실상 꺼진다
+     */
+    static JwtUtils jwtUtils(long claimsCacheSize) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("bsslabBenchmarkSecretKey123456789012345678901234567890");
+        properties.setExpiration(86_400_000L);
+        properties.setClaimsCacheSize(claimsCacheSize);
+        properties.getKeyRing().setPath(null);
+        properties.getKeyRing().setRotationEnabled(false);
+
+        return new JwtUtils(properties, new JwtKeyRing(properties));
+    }
+
+    static UserPrincipal principal() {
+        return principal(1L, USERNAME);
+    }
+
+    static UserPrincipal principal(Long id, String username) {
+        return new UserPrincipal(id, username, "{noop}password", User.Role.ROLE_USER, true, 0L);
+    }
+
+    static Authentication authentication() {
+        return authentication(principal());
+    }
+
+    static Authentication authentication(UserPrincipal principal) {
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+}
@@ -0,0 +1,81 @@
+package com.bsslab.benchmark;
+
+import com.bsslab.domain.user.repository.UserRepository;
+import com.bsslab.domain.user.service.UserLookupService;
+import com.bsslab.global.security.jwt.JwtAuthenticationFilter;
+import com.bsslab.global.security.jwt.JwtProperties;
+import com.bsslab.global.security.jwt.JwtUtils;
+import com.bsslab.global.security.revocation.RevokedTokenRepository;
+import com.bsslab.global.security.revocation.TokenRevocationService;
+import com.bsslab.global.security.service.UserSecurityVersionRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 전체 경로 (헤더 파싱 → 검증 → 폐기 확인 → 인증 객체 생성)
+ *
+ * staleVersion=true면 토큰의 보안 버전이 뒤처진 경우로, 매 요청 UserDetailsService(스텁)를 거친다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    @Param({"false", "true"})
+    private boolean staleVersion;
+
+    private JwtAuthenticationFilter filter;
+    private String authorizationHeader;
+
+    @Setup
+    public void setUp() {
+        JwtUtils jwtUtils = BenchmarkFixtures.jwtUtils();
+        UserDetailsService userDetailsService = username -> BenchmarkFixtures.principal();
+
+        JwtProperties properties = new JwtProperties();
+        properties.setExpiration(86_400_000L);
+        UserRepository userRepository = Mockito.mock(UserRepository.class);
+        UserLookupService userLookupService = new UserLookupService(userRepository, new SimpleMeterRegistry(),
+                10_000, Duration.ofMinutes(10));
+        UserSecurityVersionRegistry registry =
+                new UserSecurityVersionRegistry(userRepository, userLookupService, properties);
+        if (staleVersion) {
+            registry.record(BenchmarkFixtures.USERNAME, 1L);
+        }
+        TokenRevocationService revocationService =
+                new TokenRevocationService(Mockito.mock(RevokedTokenRepository.class), properties);
+
+        filter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "jwtUtils", jwtUtils);
+        ReflectionTestUtils.setField(filter, "userDetailsService", userDetailsService);
+        ReflectionTestUtils.setField(filter, "securityVersionRegistry", registry);
+        ReflectionTestUtils.setField(filter, "tokenRevocationService", revocationService);
+
+        authorizationHeader = "Bearer " + jwtUtils.generateJwtToken(BenchmarkFixtures.authentication());
+    }
+
+    @Benchmark
+    public Object doFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts");
+        request.addHeader("Authorization", authorizationHeader);
+
+        filter.doFilter(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
@@ -0,0 +1,77 @@
+package com.bsslab.benchmark;
+
+import com.bsslab.global.security.jwt.JwtUtils;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.Authentication;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 발급/검증 처리량
+ * validate/getUsername은 같은 토큰을 반복하므로 검증 결과 캐시가 적중하는 경로를 측정한다.
+ * ...Uncached는 캐시를 끈 JwtUtils로 서로 다른 토큰을 돌아가며 검증해 서명 검증 비용을 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtUtilsBenchmark {
+
+    private static final int DISTINCT_TOKENS = 1024;
+
+    private JwtUtils jwtUtils;
+    private Authentication authentication;
+    private String token;
+
+    private JwtUtils uncachedJwtUtils;
+    private String[] distinctTokens;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = BenchmarkFixtures.jwtUtils();
+        authentication = BenchmarkFixtures.authentication();
+        token = jwtUtils.generateJwtToken(authentication);
+
+        // 같은 초에 같은 사용자로 발급하면 토큰이 같아지므로 사용자별로 발급한다
+        uncachedJwtUtils = BenchmarkFixtures.jwtUtils(0);
+        distinctTokens = new String[DISTINCT_TOKENS];
+        for (int i = 0; i < DISTINCT_TOKENS; i++) {
+            distinctTokens[i] = uncachedJwtUtils.generateJwtToken(
+                    BenchmarkFixtures.authentication(BenchmarkFixtures.principal((long) i + 1, "benchmark-user-" + i)));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class TokenCursor {
+        private int next;
+
+        String next(String[] tokens) {
+            next = (next + 1) % tokens.length;
+            return tokens[next];
+        }
+    }
+
+    @Benchmark
+    public String generateJwtToken() {
+        return jwtUtils.generateJwtToken(authentication);
+    }
+
+    @Benchmark
+    public boolean validateJwtToken() {
+        return jwtUtils.validateJwtToken(token);
+    }
+
+    @Benchmark
+    public String getUsernameFromJwtToken() {
+        return jwtUtils.getUsernameFromJwtToken(token);
+    }
+
+    @Benchmark
+    public boolean validateJwtTokenUncached(TokenCursor cursor) {
+        return uncachedJwtUtils.validateJwtToken(cursor.next(distinctTokens));
+    }
+
+    @Benchmark
+    public String getUsernameFromJwtTokenUncached(TokenCursor cursor) {
+        return uncachedJwtUtils.getUsernameFromJwtToken(cursor.next(distinctTokens));
+    }
+}
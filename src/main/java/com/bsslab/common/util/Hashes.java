@@ -0,0 +1,30 @@
+package com.bsslab.common.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 확률적 자료구조(BloomFilter, HyperLogLog)용 64비트 해시
+ */
+final class Hashes {
+
+    private Hashes() {
+    }
+
+    /**
+     * FNV-1a 64비트 해시에 murmur3 finalizer를 적용해 모든 비트를 고르게 섞는다
+     */
+    static long hash64(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= (b & 0xff);
+            h *= 0x100000001b3L;
+        }
+
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,158 @@
+package com.bsslab.common.util;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 서로 다른 값의 개수를 추정하는 HyperLogLog sketch (thread-safe)
+ *
+ * 레지스터 2^precision개(각 1바이트)만 사용하며 표준 오차는 약 1.04 / sqrt(2^precision)이다.
+ * 같은 precision의 sketch끼리 합칠 수 있어 여러 노드의 집계를 병합할 수 있다.
+ */
+public class HyperLogLog {
+
+    private static final byte FORMAT_DENSE = 1;
+    private static final byte FORMAT_SPARSE = 2;
+
+    private final int precision;
+    private final byte[] registers;
+
+    /**
+     * @param precision 레지스터 수의 log2 (4 ~ 16)
+     */
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 16) {
+            throw new IllegalArgumentException("precision must be between 4 and 16: " + precision);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    /**
+     * @return 레지스터가 바뀌었으면 true (추정값이 바뀔 수 있음)
+     */
+    public boolean offer(String value) {
+        long hash = Hashes.hash64(value);
+        int index = (int) (hash >>> (Long.SIZE - precision));
+        // 상위 precision 비트를 뺀 나머지에서 첫 1비트의 위치 (끝에 1을 두어 최대값을 제한)
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1);
+        synchronized (this) {
+            if (rank > registers[index]) {
+                registers[index] = rank;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    public synchronized long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+
+        double estimate = alpha(m) * m * m / sum;
+        // 값이 적을 때는 linear counting이 더 정확하다
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public void merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Cannot merge sketches with different precision");
+        }
+        byte[] otherRegisters = other.copyRegisters();
+        synchronized (this) {
+            for (int i = 0; i < registers.length; i++) {
+                if (otherRegisters[i] > registers[i]) {
+                    registers[i] = otherRegisters[i];
+                }
+            }
+        }
+    }
+
+    public synchronized boolean isEmpty() {
+        for (byte register : registers) {
+            if (register != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    /**
+     * 직렬화: 0이 아닌 레지스터가 적으면 (index, value) 목록, 많으면 레지스터 전체
+     */
+    public byte[] toBytes() {
+        byte[] snapshot = copyRegisters();
+        int nonZero = 0;
+        for (byte register : snapshot) {
+            if (register != 0) {
+                nonZero++;
+            }
+        }
+
+        if (nonZero * 3 < snapshot.length) {
+            ByteBuffer buffer = ByteBuffer.allocate(2 + nonZero * 3)
+                    .put(FORMAT_SPARSE)
+                    .put((byte) precision);
+            for (int i = 0; i < snapshot.length; i++) {
+                if (snapshot[i] != 0) {
+                    buffer.putShort((short) i).put(snapshot[i]);
+                }
+            }
+            return buffer.array();
+        }
+        return ByteBuffer.allocate(2 + snapshot.length)
+                .put(FORMAT_DENSE)
+                .put((byte) precision)
+                .put(snapshot)
+                .array();
+    }
+
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte format = buffer.get();
+        HyperLogLog sketch = new HyperLogLog(buffer.get());
+
+        if (format == FORMAT_DENSE) {
+            buffer.get(sketch.registers);
+        } else if (format == FORMAT_SPARSE) {
+            while (buffer.remaining() >= 3) {
+                int index = Short.toUnsignedInt(buffer.getShort());
+                sketch.registers[index] = buffer.get();
+            }
+        } else {
+            throw new IllegalArgumentException("Unknown HyperLogLog format: " + format);
+        }
+        return sketch;
+    }
+
+    private synchronized byte[] copyRegisters() {
+        return Arrays.copyOf(registers, registers.length);
+    }
+
+    private static double alpha(int m) {
+        switch (m) {
+            case 16:
+                return 0.673;
+            case 32:
+                return 0.697;
+            case 64:
+                return 0.709;
+            default:
+                return 0.7213 / (1 + 1.079 / m);
+        }
+    }
+}
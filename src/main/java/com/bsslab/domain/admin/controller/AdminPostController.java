@@ -1,5 +1,10 @@
 package com.bsslab.domain.admin.controller;
 
+import com.bsslab.domain.admin.dto.BulkPostCriteria;
+import com.bsslab.domain.admin.dto.BulkPostResponse;
+import com.bsslab.domain.admin.dto.BulkPostStatusRequest;
+import com.bsslab.domain.admin.service.AdminPostService;
+import com.bsslab.domain.admin.service.PostExportService;
 import com.bsslab.domain.post.dto.PostListResponse;
 import com.bsslab.domain.post.entity.Post;
 import com.bsslab.domain.post.service.PostService;
@@ -8,14 +13,23 @@ import com.bsslab.global.dto.PageResponse;
 import com.bsslab.global.exception.GlobalExceptionHandler.ResourceNotFoundException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 
 @RestController
 @RequestMapping("/admin/posts")
@@ -25,6 +39,8 @@ import org.springframework.web.bind.annotation.*;
 public class AdminPostController {
 
     private final PostService postService;
+    private final AdminPostService adminPostService;
+    private final PostExportService postExportService;
 
     @Operation(summary = "모든 게시글 조회(관리자용)", description = "관리자가 모든 게시글을 페이지 단위로 조회합니다.")
     @GetMapping
@@ -34,6 +50,26 @@ public class AdminPostController {
         return ResponseEntity.ok(ApiResponse.success(PageResponse.from(postsPage)));
     }
 
+    @Operation(summary = "게시글 내보내기(관리자용)",
+            description = "모든 게시글(본문, 이미지 경로 포함)을 NDJSON 또는 CSV로 스트리밍합니다. 상태, 카테고리, 작성 기간으로 거를 수 있습니다.")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportPosts(
+            @RequestParam(defaultValue = "NDJSON") PostExportService.Format format,
+            @RequestParam(required = false) Post.Status status,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo) {
+        boolean csv = format == PostExportService.Format.CSV;
+        String fileName = String.format("posts-%s.%s",
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss")), csv ? "csv" : "ndjson");
+
+        StreamingResponseBody body = out -> postExportService.export(format, status, category, createdFrom, createdTo, out);
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(body);
+    }
+
     @Operation(summary = "게시글 상태 변경(관리자용)", description = "관리자가 게시글의 상태를 변경합니다.")
     @PatchMapping("/{id}/status")
     public ResponseEntity<ApiResponse<Void>> updatePostStatus(
@@ -61,4 +97,24 @@ public class AdminPostController {
         postService.deleteById(id);
         return ResponseEntity.ok(ApiResponse.success("게시글이 성공적으로 삭제되었습니다.", null));
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "게시글 상태 대량 변경(관리자용)",
+            description = "ID 목록 또는 조건(카테고리, 상태, 작성자, 제목, 작성 기간)에 맞는 게시글의 상태를 한 번에 변경합니다.")
+    @PostMapping("/bulk/status")
+    public ResponseEntity<ApiResponse<BulkPostResponse>> bulkUpdateStatus(
+            @Valid @RequestBody BulkPostStatusRequest request) {
+        BulkPostResponse response = adminPostService.updateStatus(request.getTarget(), request.getStatus());
+        return ResponseEntity.ok(ApiResponse.success(
+                String.format("%d개 게시글의 상태가 %s로 변경되었습니다.", response.getAffectedCount(), request.getStatus()),
+                response));
+    }
+
+    @Operation(summary = "게시글 대량 삭제(관리자용)",
+            description = "ID 목록 또는 조건에 맞는 게시글을 한 번에 삭제합니다. 첨부 이미지 파일은 백그라운드에서 삭제됩니다.")
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<ApiResponse<BulkPostResponse>> bulkDelete(@Valid @RequestBody BulkPostCriteria target) {
+        BulkPostResponse response = adminPostService.delete(target);
+        return ResponseEntity.ok(ApiResponse.success(
+                String.format("%d개 게시글이 삭제되었습니다.", response.getAffectedCount()), response));
+    }
+}
@@ -0,0 +1,36 @@
+package com.bsslab.domain.admin.controller;
+
+import com.bsslab.domain.auth.service.AuthService;
+import com.bsslab.global.dto.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 사용자 관리 API 컨트롤러 (관리자용)
+ */
+@RestController
+@RequestMapping("/admin/users")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@SecurityRequirement(name = "bearer-jwt")
+@Tag(name = "사용자 관리", description = "사용자 관리 API (관리자용)")
+public class AdminUserController {
+
+    private final AuthService authService;
+
+    /**
+     * 사용자의 토큰 강제 폐기
+     */
+    @Operation(summary = "토큰 강제 폐기",
+            description = "지금까지 발급된 사용자의 모든 토큰을 폐기합니다. 사용자는 다시 로그인해야 합니다.")
+    @PostMapping("/{username}/revoke-tokens")
+    public ResponseEntity<ApiResponse<Void>> revokeTokens(@PathVariable String username) {
+        authService.revokeAllTokens(username);
+        return ResponseEntity.ok(ApiResponse.success("사용자의 토큰이 모두 폐기되었습니다.", null));
+    }
+}
@@ -0,0 +1,59 @@
+package com.bsslab.domain.admin.dto;
+
+import com.bsslab.domain.post.entity.Post;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "대량 처리 대상 (게시글 ID 목록 또는 조건 중 하나만 지정)")
+public class BulkPostCriteria {
+    @Size(max = 10000, message = "한 번에 최대 10000개까지 지정할 수 있습니다.")
+    @Schema(description = "대상 게시글 ID 목록", example = "[101, 102, 103]")
+    private List<Long> ids;
+
+    @Schema(description = "카테고리", example = "자유게시판")
+    private String category;
+
+    @Schema(description = "현재 게시글 상태", example = "PUBLISHED")
+    private Post.Status status;
+
+    @Schema(description = "작성자 이름", example = "spammer01")
+    private String username;
+
+    @Schema(description = "제목에 포함된 문자열", example = "무료 쿠폰")
+    private String titleKeyword;
+
+    @Schema(description = "작성 일시 시작 (이상)", example = "2024-05-01T00:00:00")
+    private LocalDateTime createdFrom;
+
+    @Schema(description = "작성 일시 끝 (미만)", example = "2024-05-02T00:00:00")
+    private LocalDateTime createdTo;
+
+    public boolean hasIds() {
+        return ids != null && !ids.isEmpty();
+    }
+
+    public boolean hasFilter() {
+        return category != null || status != null || username != null || titleKeyword != null
+                || createdFrom != null || createdTo != null;
+    }
+
+    // 조건 없이 전체 게시글이 처리되는 것을 막는다
+    @JsonIgnore
+    @AssertTrue(message = "게시글 ID 목록 또는 조건 중 하나만 지정해야 합니다.")
+    public boolean isTargetSpecified() {
+        return hasIds() != hasFilter();
+    }
+}
@@ -0,0 +1,20 @@
+package com.bsslab.domain.admin.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "게시글 대량 처리 결과 DTO")
+public class BulkPostResponse {
+    @Schema(description = "대상 게시글 수", example = "1250")
+    private long matchedCount;
+
+    @Schema(description = "실제로 변경/삭제된 게시글 수", example = "1248")
+    private long affectedCount;
+}
@@ -0,0 +1,26 @@
+package com.bsslab.domain.admin.dto;
+
+import com.bsslab.domain.post.entity.Post;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "게시글 상태 대량 변경 요청 DTO")
+public class BulkPostStatusRequest {
+    @NotNull(message = "변경할 상태는 필수 입력값입니다.")
+    @Schema(description = "변경할 상태", example = "DELETED")
+    private Post.Status status;
+
+    @Valid
+    @NotNull(message = "대상은 필수 입력값입니다.")
+    @Schema(description = "대상 게시글")
+    private BulkPostCriteria target;
+}
@@ -0,0 +1,109 @@
+package com.bsslab.domain.admin.service;
+
+import com.bsslab.domain.admin.dto.BulkPostCriteria;
+import com.bsslab.domain.admin.dto.BulkPostResponse;
+import com.bsslab.domain.post.entity.Post;
+import com.bsslab.domain.post.event.PostsChangedEvent;
+import com.bsslab.domain.post.repository.PostBodyRepository;
+import com.bsslab.domain.post.repository.PostImageRepository;
+import com.bsslab.domain.post.repository.PostRepository;
+import com.bsslab.global.service.FileStorageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 관리자 게시글 대량 처리
+ *
+ * 엔티티를 읽지 않고 청크 단위 UPDATE/DELETE 문으로 처리하며, 청크마다 별도 트랜잭션으로 커밋해
+ * 잠금 시간을 짧게 유지한다. 이미지 파일은 삭제 예약만 하고,
+ * 다른 게시글이 참조하지 않는 파일만 FileCleanupService가 나중에 지운다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AdminPostService {
+
+    private final PostRepository postRepository;
+    private final PostImageRepository postImageRepository;
+    private final PostBodyRepository postBodyRepository;
+    private final FileStorageService fileStorageService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${admin.bulk.chunk-size:500}")
+    private int chunkSize;
+
+    public BulkPostResponse updateStatus(BulkPostCriteria target, Post.Status status) {
+        BulkPostResponse response = forEachChunk(target, ids -> {
+            int updated = postRepository.updateStatusByIdIn(ids, status, LocalDateTime.now());
+            eventPublisher.publishEvent(new PostsChangedEvent(ids));
+            return updated;
+        });
+        log.info("Bulk status change to {}: {} matched, {} updated", status,
+                response.getMatchedCount(), response.getAffectedCount());
+        return response;
+    }
+
+    public BulkPostResponse delete(BulkPostCriteria target) {
+        BulkPostResponse response = forEachChunk(target, ids -> {
+            List<String> imageFiles = postImageRepository.findByPostIdIn(ids).stream()
+                    .flatMap(image -> image.getStoredFiles().stream())
+                    .collect(Collectors.toList());
+            postImageRepository.deleteByPostIdIn(ids);
+            postBodyRepository.deleteByPostIdIn(ids);
+            int deleted = postRepository.deleteByIdIn(ids);
+            fileStorageService.deleteFiles(imageFiles);
+            eventPublisher.publishEvent(new PostsChangedEvent(ids));
+            return deleted;
+        });
+        log.info("Bulk delete: {} matched, {} deleted", response.getMatchedCount(), response.getAffectedCount());
+        return response;
+    }
+
+    private BulkPostResponse forEachChunk(BulkPostCriteria target, Function<List<Long>, Integer> action) {
+        long matched = 0;
+        long affected = 0;
+
+        if (target.hasIds()) {
+            List<Long> ids = target.getIds().stream().distinct().collect(Collectors.toList());
+            for (int from = 0; from < ids.size(); from += chunkSize) {
+                List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+                matched += chunk.size();
+                affected += executeChunk(chunk, action);
+            }
+            return BulkPostResponse.builder().matchedCount(matched).affectedCount(affected).build();
+        }
+
+        // 조건 대상은 id 순 keyset으로 청크를 나눈다 (처리된 게시글이 다시 조회되지 않음)
+        long afterId = 0;
+        List<Long> chunk;
+        do {
+            chunk = postRepository.findIdsByFilterAfter(afterId, target.getCategory(), target.getStatus(),
+                    target.getUsername(), target.getTitleKeyword(), target.getCreatedFrom(), target.getCreatedTo(),
+                    PageRequest.of(0, chunkSize));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            matched += chunk.size();
+            affected += executeChunk(chunk, action);
+            afterId = chunk.get(chunk.size() - 1);
+        } while (chunk.size() == chunkSize);
+
+        return BulkPostResponse.builder().matchedCount(matched).affectedCount(affected).build();
+    }
+
+    private int executeChunk(List<Long> ids, Function<List<Long>, Integer> action) {
+        Integer affected = transactionTemplate.execute(status -> action.apply(List.copyOf(ids)));
+        return affected != null ? affected : 0;
+    }
+}
@@ -0,0 +1,248 @@
+package com.bsslab.domain.admin.service;
+
+import com.bsslab.domain.post.entity.Post;
+import com.bsslab.domain.post.entity.PostBody;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 관리자용 게시글 전체 내보내기 (NDJSON/CSV)
+ *
+ * JDBC 스트리밍 결과를 한 행씩 바로 응답에 쓰므로 게시글 수와 관계없이 메모리 사용량이 일정하다.
+ * 엔티티를 거치지 않아 영속성 컨텍스트가 쌓이지 않고, 이미지는 행마다 서브쿼리로 함께 읽는다.
+ * GROUP_CONCAT은 group_concat_max_len(기본 1024바이트)에서 잘리므로 같은 커넥션의 세션 한도를 올린 뒤 조회한다.
+ */
+@Service
+@Slf4j
+public class PostExportService {
+
+    private static final String EXPORT_SELECT = "SELECT p.id, p.title, p.category, p.status, p.view_count, " +
+            "u.username, p.created_at, p.updated_at, " +
+            "(SELECT GROUP_CONCAT(i.image_url ORDER BY i.id SEPARATOR ' ') FROM post_images i WHERE i.post_id = p.id) " +
+            "AS image_urls, b.content, b.compressed_content " +
+            "FROM posts p LEFT JOIN users u ON u.id = p.user_id LEFT JOIN post_bodies b ON b.post_id = p.id";
+
+    private static final String[] CSV_HEADER = {"id", "title", "category", "status", "view_count", "username",
+            "created_at", "updated_at", "image_urls", "content"};
+
+    private static final int FLUSH_EVERY_ROWS = 500;
+
+    // 게시글 하나의 이미지 URL을 합친 길이 상한 (실제 결과는 max_allowed_packet에도 묶인다)
+    private static final long GROUP_CONCAT_MAX_LEN = 16L * 1024 * 1024;
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public PostExportService(DataSource dataSource, ObjectMapper objectMapper) {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.objectMapper = objectMapper;
+    }
+
+    public enum Format {
+        NDJSON, CSV
+    }
+
+    /**
+     * 조건에 맞는 게시글을 id 순으로 out에 쓴다 (null인 조건은 무시)
+     */
+    public void export(Format format, Post.Status status, String category, LocalDateTime createdFrom,
+                       LocalDateTime createdTo, OutputStream out) throws IOException {
+        StringBuilder sql = new StringBuilder(EXPORT_SELECT);
+        List<Object> args = new ArrayList<>();
+        List<String> conditions = new ArrayList<>();
+        if (status != null) {
+            conditions.add("p.status = ?");
+            args.add(status.name());
+        }
+        if (category != null) {
+            conditions.add("p.category = ?");
+            args.add(category);
+        }
+        if (createdFrom != null) {
+            conditions.add("p.created_at >= ?");
+            args.add(Timestamp.valueOf(createdFrom));
+        }
+        if (createdTo != null) {
+            conditions.add("p.created_at < ?");
+            args.add(Timestamp.valueOf(createdTo));
+        }
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        sql.append(" ORDER BY p.id");
+
+        RowWriter writer = format == Format.CSV ? new CsvRowWriter(out) : new NdjsonRowWriter(out);
+        long[] count = {0};
+        RowCallbackHandler handler = rs -> {
+            try {
+                writer.write(rs);
+                if (++count[0] % FLUSH_EVERY_ROWS == 0) {
+                    writer.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+        try {
+            // SET SESSION과 조회가 같은 커넥션에서 실행되어야 하므로 커넥션을 직접 잡는다
+            streamingJdbcTemplate.execute((ConnectionCallback<Void>) con -> {
+                try (Statement session = con.createStatement()) {
+                    session.execute("SET SESSION group_concat_max_len = " + GROUP_CONCAT_MAX_LEN);
+                }
+                try {
+                    streamRows(con, sql.toString(), args, handler);
+                } finally {
+                    // 풀로 돌아가는 커넥션에 바뀐 세션 값이 남지 않도록 되돌린다
+                    try (Statement session = con.createStatement()) {
+                        session.execute("SET SESSION group_concat_max_len = DEFAULT");
+                    }
+                }
+                return null;
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 끊김 등
+            throw e.getCause();
+        }
+        writer.flush();
+        log.info("Exported {} posts as {}", count[0], format);
+    }
+
+    private static void streamRows(Connection con, String sql, List<Object> args, RowCallbackHandler handler)
+            throws SQLException {
+        try (PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            // MySQL Connector/J는 fetchSize가 Integer.MIN_VALUE면 결과를 한 행씩 스트리밍한다 (전체를 메모리에 올리지 않음)
+            ps.setFetchSize(Integer.MIN_VALUE);
+            for (int i = 0; i < args.size(); i++) {
+                ps.setObject(i + 1, args.get(i));
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    handler.processRow(rs);
+                }
+            }
+        }
+    }
+
+    private static String content(ResultSet rs) throws SQLException {
+        return PostBody.decode(rs.getString("content"), rs.getBytes("compressed_content"));
+    }
+
+    private static String dateTime(ResultSet rs, String column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column);
+        return timestamp != null ? timestamp.toLocalDateTime().toString() : null;
+    }
+
+    private interface RowWriter {
+        void write(ResultSet rs) throws SQLException, IOException;
+
+        void flush() throws IOException;
+    }
+
+    private class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(OutputStream out) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("id", rs.getLong("id"));
+            generator.writeStringField("title", rs.getString("title"));
+            generator.writeStringField("category", rs.getString("category"));
+            generator.writeStringField("status", rs.getString("status"));
+            generator.writeNumberField("viewCount", rs.getInt("view_count"));
+            generator.writeStringField("username", rs.getString("username"));
+            generator.writeStringField("createdAt", dateTime(rs, "created_at"));
+            generator.writeStringField("updatedAt", dateTime(rs, "updated_at"));
+            generator.writeArrayFieldStart("imageUrls");
+            String imageUrls = rs.getString("image_urls");
+            if (imageUrls != null) {
+                for (String imageUrl : imageUrls.split(" ")) {
+                    generator.writeString(imageUrl);
+                }
+            }
+            generator.writeEndArray();
+            generator.writeStringField("content", content(rs));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+    }
+
+    private static class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+
+        CsvRowWriter(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writeLine(CSV_HEADER);
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            writeLine(new String[]{
+                    String.valueOf(rs.getLong("id")),
+                    rs.getString("title"),
+                    rs.getString("category"),
+                    rs.getString("status"),
+                    String.valueOf(rs.getInt("view_count")),
+                    rs.getString("username"),
+                    dateTime(rs, "created_at"),
+                    dateTime(rs, "updated_at"),
+                    rs.getString("image_urls"),
+                    content(rs)
+            });
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        // RFC 4180: 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 쓴다
+        private void writeLine(String[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                String value = values[i];
+                if (value == null) {
+                    continue;
+                }
+                if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                        || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                    writer.write('"');
+                    writer.write(value.replace("\"", "\"\""));
+                    writer.write('"');
+                } else {
+                    writer.write(value);
+                }
+            }
+            writer.write("\r\n");
+        }
+    }
+}
@@ -11,6 +11,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -46,4 +47,15 @@ public class AuthController {
         TokenResponse tokenResponse = authService.authenticateUser(loginRequest);
         return ResponseEntity.ok(ApiResponse.success("로그인이 성공적으로 완료되었습니다.", tokenResponse));
     }
+
+    @Operation(summary = "로그아웃", description = "현재 JWT 토큰을 폐기하여 더 이상 사용할 수 없게 합니다.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "로그아웃 성공")
+    })
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponse<Void>> logout(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        authService.logout(authorization);
+        return ResponseEntity.ok(ApiResponse.success("로그아웃이 성공적으로 완료되었습니다.", null));
+    }
 }
\ No newline at end of file
@@ -3,13 +3,21 @@ package com.bsslab.domain.auth.service;
 import com.bsslab.domain.auth.dto.LoginRequest;
 import com.bsslab.domain.auth.dto.SignupRequest;
 import com.bsslab.domain.auth.dto.TokenResponse;
+import com.bsslab.domain.user.dto.UserSnapshot;
 import com.bsslab.domain.user.entity.User;
 import com.bsslab.domain.user.entity.UserProfile;
 import com.bsslab.domain.user.repository.UserProfileRepository;
 import com.bsslab.domain.user.repository.UserRepository;
+import com.bsslab.domain.user.service.UserIdentifierFilter;
+import com.bsslab.domain.user.service.UserLookupService;
 import com.bsslab.global.exception.DuplicateResourceException;
+import com.bsslab.global.exception.GlobalExceptionHandler.ResourceNotFoundException;
 import com.bsslab.global.security.jwt.JwtUtils;
+import com.bsslab.global.security.revocation.TokenRevocationService;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -17,7 +25,8 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
 
 @Service
 @RequiredArgsConstructor
@@ -25,42 +34,83 @@ public class AuthService {
 
     private final UserRepository userRepository;
     private final UserProfileRepository userProfileRepository;
+    private final UserLookupService userLookupService;
+    private final UserIdentifierFilter userIdentifierFilter;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtUtils jwtUtils;
+    private final TokenRevocationService tokenRevocationService;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    /**
+     * 비밀번호 해시는 트랜잭션 밖에서 계산하고, 저장만 짧은 트랜잭션으로 처리
+     * (해시 대기/계산 중에 DB 커넥션을 잡고 있지 않도록)
+     */
     public void registerUser(SignupRequest signupRequest) {
-        // Check if username is already taken
-        if (userRepository.existsByUsername(signupRequest.getUsername())) {
+        // Check if username is already taken (skipped when the filter knows it is new)
+        if (userIdentifierFilter.mightContainUsername(signupRequest.getUsername())
+                && userRepository.existsByUsername(signupRequest.getUsername())) {
             throw new DuplicateResourceException("Username is already taken!");
         }
 
         // Check if email is already in use
-        if (userRepository.existsByEmail(signupRequest.getEmail())) {
+        if (userIdentifierFilter.mightContainEmail(signupRequest.getEmail())
+                && userRepository.existsByEmail(signupRequest.getEmail())) {
             throw new DuplicateResourceException("Email is already in use!");
         }
 
-        // Create new user account
-        User user = User.builder()
-                .username(signupRequest.getUsername())
-                .email(signupRequest.getEmail())
-                .password(passwordEncoder.encode(signupRequest.getPassword()))
-                .role(User.Role.ROLE_USER)
-                .status(User.Status.ACTIVE)
-                .build();
+        String encodedPassword = passwordEncoder.encode(signupRequest.getPassword());
 
-        userRepository.save(user);
+        transactionTemplate.executeWithoutResult(status -> {
+            // Create new user account
+            User user = User.builder()
+                    .username(signupRequest.getUsername())
+                    .email(signupRequest.getEmail())
+                    .password(encodedPassword)
+                    .role(User.Role.ROLE_USER)
+                    .status(User.Status.ACTIVE)
+                    .build();
 
-        // Create an empty profile for the user
-        UserProfile userProfile = UserProfile.builder()
-                .user(user)
-                .build();
+            // The unique constraints are the final check (concurrent signups, other nodes)
+            try {
+                userRepository.saveAndFlush(user);
+            } catch (DataIntegrityViolationException e) {
+                throw toDuplicateResourceException(e, signupRequest);
+            }
+
+            // Create an empty profile for the user
+            UserProfile userProfile = UserProfile.builder()
+                    .user(user)
+                    .build();
+
+            userProfileRepository.save(userProfile);
+        });
+        userIdentifierFilter.add(signupRequest.getUsername(), signupRequest.getEmail());
+    }
+
+    /**
+     * unique 제약 위반을 어느 컬럼인지 구분해 409 예외로 변환
+     * MySQL 메시지("Duplicate entry 'value' for key ...")의 값으로 먼저 판단하고, 안 되면 제약 이름으로 판단한다.
+     */
+    private DuplicateResourceException toDuplicateResourceException(DataIntegrityViolationException e,
+                                                                    SignupRequest signupRequest) {
+        String message = String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase();
+        String constraintName = e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null ? violation.getConstraintName().toLowerCase() : "";
 
-        userProfileRepository.save(userProfile);
+        if (message.contains("'" + signupRequest.getEmail().toLowerCase() + "'") || constraintName.contains("email")) {
+            return new DuplicateResourceException("Email is already in use!");
+        }
+        if (message.contains("'" + signupRequest.getUsername().toLowerCase() + "'") || constraintName.contains("username")) {
+            return new DuplicateResourceException("Username is already taken!");
+        }
+        return new DuplicateResourceException("Username or email is already in use!");
     }
 
-    @Transactional
+    /**
+     * 트랜잭션 없이 인증 (해시 비교 중에 DB 커넥션을 잡지 않음)
+     * 사용자 조회는 캐시/단건 조회이고, 해시 교체는 CustomUserDetailsService의 짧은 트랜잭션에서 처리된다.
+     */
     public TokenResponse authenticateUser(LoginRequest loginRequest) {
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(loginRequest.getUsername(), loginRequest.getPassword()));
@@ -69,8 +119,7 @@ public class AuthService {
         String jwt = jwtUtils.generateJwtToken(authentication);
 
         UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        User user = userRepository.findByUsername(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        UserSnapshot user = userLookupService.getByUsername(userDetails.getUsername());
 
         return TokenResponse.builder()
                 .token(jwt)
@@ -81,4 +130,31 @@ public class AuthService {
                 .role(user.getRole().name())
                 .build();
     }
+
+    /**
+     * Authorization 헤더의 토큰을 폐기한다
+     * 이미 유효하지 않은 토큰이면 아무 것도 하지 않는다.
+     */
+    public void logout(String authorization) {
+        if (!StringUtils.hasText(authorization) || !authorization.startsWith("Bearer ")) {
+            return;
+        }
+
+        jwtUtils.getVerifiedClaims(authorization.substring(7))
+                .filter(claims -> claims.getId() != null)
+                .ifPresent(claims -> tokenRevocationService.revoke(
+                        claims.getId(), claims.getSubject(), claims.getExpiration()));
+
+        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * 사용자의 모든 토큰을 강제 폐기 (관리자용, 계정 탈취 의심 등)
+     */
+    public void revokeAllTokens(String username) {
+        if (!userRepository.existsByUsername(username)) {
+            throw new ResourceNotFoundException("User not found with username: " + username);
+        }
+        tokenRevocationService.revokeAllFor(username);
+    }
 }
\ No newline at end of file
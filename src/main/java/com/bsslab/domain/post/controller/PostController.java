@@ -5,7 +5,9 @@ import com.bsslab.domain.post.dto.PostRequest;
 import com.bsslab.domain.post.dto.PostResponse;
 import com.bsslab.domain.post.service.PostService;
 import com.bsslab.global.dto.ApiResponse;
+import com.bsslab.global.dto.CursorResponse;
 import com.bsslab.global.dto.PageResponse;
+import com.bsslab.global.security.service.UserPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,6 +16,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -25,8 +28,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Collections;
+import java.util.List;
 
 @RestController
 @RequestMapping("/posts")
@@ -34,6 +39,10 @@ import java.util.Collections;
 @Tag(name = "게시판", description = "게시글 조회, 작성, 수정, 삭제를 위한 API")
 public class PostController {
 
+    private static final String CURSOR_DESCRIPTION = "커서 모드: 첫 페이지는 빈 값(cursor=), 다음 페이지는 응답의 nextCursor. "
+            + "지정하면 최신순 커서 페이지(CursorResponse)를 반환하며 전체 개수는 세지 않습니다.";
+    private static final int MAX_TRENDING_SIZE = 50;
+
     private final PostService postService;
 
     @Operation(
@@ -45,13 +54,23 @@ public class PostController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "200",
                     description = "조회 성공",
-                    content = @Content(schema = @Schema(implementation = PageResponse.class))
+                    content = @Content(schema = @Schema(oneOf = {PageResponse.class, CursorResponse.class}))
             )
     })
     @GetMapping
-    public ResponseEntity<ApiResponse<PageResponse<PostListResponse>>> getPosts(
+    public ResponseEntity<ApiResponse<?>> getPosts(
+            @Parameter(description = CURSOR_DESCRIPTION)
+            @RequestParam(required = false) String cursor,
             @Parameter(description = "페이지네이션 정보 (페이지 번호, 크기, 정렬 기준)")
-            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest webRequest) {
+        if (cursor != null) {
+            return ResponseEntity.ok(ApiResponse.success(postService.getPostsByCursor(cursor, pageable.getPageSize())));
+        }
+        // 내용이 바뀌지 않았으면 목록을 만들지 않고 304 응답
+        if (webRequest.checkNotModified(postService.getPostsETag(pageable))) {
+            return null;
+        }
         Page<PostListResponse> postsPage = postService.getPosts(pageable);
         return ResponseEntity.ok(ApiResponse.success(PageResponse.from(postsPage)));
     }
@@ -65,15 +84,26 @@ public class PostController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "200",
                     description = "조회 성공",
-                    content = @Content(schema = @Schema(implementation = PageResponse.class))
+                    content = @Content(schema = @Schema(oneOf = {PageResponse.class, CursorResponse.class}))
             )
     })
     @GetMapping("/category/{category}")
-    public ResponseEntity<ApiResponse<PageResponse<PostListResponse>>> getPostsByCategory(
+    public ResponseEntity<ApiResponse<?>> getPostsByCategory(
             @Parameter(description = "조회할 카테고리명", example = "공지사항")
             @PathVariable String category,
+            @Parameter(description = CURSOR_DESCRIPTION)
+            @RequestParam(required = false) String cursor,
             @Parameter(description = "페이지네이션 정보 (페이지 번호, 크기, 정렬 기준)")
-            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest webRequest) {
+        if (cursor != null) {
+            return ResponseEntity.ok(ApiResponse.success(
+                    String.format("'%s' 카테고리의 게시글을 조회했습니다.", category),
+                    postService.getPostsByCategoryByCursor(category, cursor, pageable.getPageSize())));
+        }
+        if (webRequest.checkNotModified(postService.getPostsByCategoryETag(category, pageable))) {
+            return null;
+        }
         Page<PostListResponse> postsPage = postService.getPostsByCategory(category, pageable);
         return ResponseEntity.ok(ApiResponse.success(
                 String.format("'%s' 카테고리의 게시글을 조회했습니다.", category),
@@ -89,21 +119,47 @@ public class PostController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "200",
                     description = "검색 성공",
-                    content = @Content(schema = @Schema(implementation = PageResponse.class))
+                    content = @Content(schema = @Schema(oneOf = {PageResponse.class, CursorResponse.class}))
             )
     })
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<PageResponse<PostListResponse>>> searchPosts(
+    public ResponseEntity<ApiResponse<?>> searchPosts(
             @Parameter(description = "검색 키워드", example = "스프링")
             @RequestParam String keyword,
+            @Parameter(description = CURSOR_DESCRIPTION + " 커서 모드의 검색 결과는 관련도 대신 최신순입니다.")
+            @RequestParam(required = false) String cursor,
             @Parameter(description = "페이지네이션 정보 (페이지 번호, 크기, 정렬 기준)")
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        if (cursor != null) {
+            return ResponseEntity.ok(ApiResponse.success(
+                    String.format("'%s' 키워드로 검색한 결과입니다.", keyword),
+                    postService.searchPostsByCursor(keyword, cursor, pageable.getPageSize())));
+        }
         Page<PostListResponse> postsPage = postService.searchPosts(keyword, pageable);
         return ResponseEntity.ok(ApiResponse.success(
                 String.format("'%s' 키워드로 검색한 결과입니다.", keyword),
                 PageResponse.from(postsPage)));
     }
 
+    @Operation(
+            summary = "인기 게시글 조회",
+            description = "최근 조회가 많은 공개 게시글을 반환합니다. 조회수는 시간이 지날수록 적게 반영됩니다 (반감기 post.trending.half-life).",
+            security = @SecurityRequirement(name = "bearer-jwt")
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공"
+            )
+    })
+    @GetMapping("/trending")
+    public ResponseEntity<ApiResponse<List<PostListResponse>>> getTrendingPosts(
+            @Parameter(description = "조회할 게시글 수 (최대 " + MAX_TRENDING_SIZE + ")", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+        List<PostListResponse> posts = postService.getTrendingPosts(Math.max(1, Math.min(size, MAX_TRENDING_SIZE)));
+        return ResponseEntity.ok(ApiResponse.success("인기 게시글을 조회했습니다.", posts));
+    }
+
     @Operation(
             summary = "게시글 상세 조회",
             description = "특정 게시글의 상세 내용을 조회합니다. 조회 시 조회수가 1 증가합니다. 이미지가 첨부된 경우 이미지 정보도 함께 반환됩니다.",
@@ -115,6 +171,10 @@ public class PostController {
                     description = "조회 성공",
                     content = @Content(schema = @Schema(implementation = PostResponse.class))
             ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "304",
+                    description = "변경 없음 (If-None-Match가 현재 ETag와 일치)"
+            ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "404",
                     description = "게시글을 찾을 수 없음"
@@ -123,8 +183,16 @@ public class PostController {
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<PostResponse>> getPost(
             @Parameter(description = "게시글 ID", example = "1")
-            @PathVariable Long id) {
-        PostResponse post = postService.getPost(id);
+            @PathVariable Long id,
+            @AuthenticationPrincipal UserDetails userDetails,
+            HttpServletRequest request,
+            WebRequest webRequest) {
+        // 내용이 바뀌지 않았으면 304 응답 (조회수도 올리지 않음)
+        String etag = postService.getPostETag(id);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        PostResponse post = postService.getPost(id, viewerKey(userDetails, request));
         return ResponseEntity.ok(ApiResponse.success(post));
     }
 
@@ -236,4 +304,12 @@ public class PostController {
         postService.deletePost(id, userDetails.getUsername());
         return ResponseEntity.ok(ApiResponse.success("게시글이 성공적으로 삭제되었습니다.", null));
     }
-}
\ No newline at end of file
+
+    // 고유 조회자 키: 로그인 사용자는 사용자 ID, 그 외에는 클라이언트 IP (sketch에는 해시만 남는다)
+    private static String viewerKey(UserDetails userDetails, HttpServletRequest request) {
+        if (userDetails instanceof UserPrincipal principal) {
+            return "user:" + principal.getId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
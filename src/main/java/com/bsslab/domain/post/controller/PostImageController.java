@@ -3,13 +3,16 @@ package com.bsslab.domain.post.controller;
 import com.bsslab.domain.post.dto.PostImageResponse;
 import com.bsslab.domain.post.service.PostService;
 import com.bsslab.global.dto.ApiResponse;
+import com.bsslab.global.file.MultipartUploadService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.SchemaProperty;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -17,7 +20,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 
@@ -28,6 +30,7 @@ import java.util.List;
 public class PostImageController {
 
     private final PostService postService;
+    private final MultipartUploadService multipartUploadService;
 
     @Operation(
             summary = "게시글 이미지 업로드",
@@ -45,7 +48,11 @@ public class PostImageController {
             ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "400",
-                    description = "잘못된 요청 (이미지 파일이 아니거나 크기 초과)"
+                    description = "잘못된 요청 (multipart 형식 오류)"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "413",
+                    description = "파일 또는 요청 크기 초과"
             ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "401",
@@ -60,22 +67,27 @@ public class PostImageController {
                     description = "게시글을 찾을 수 없음"
             )
     })
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            description = "업로드할 이미지 파일들 (다중 선택 가능)",
+            content = @Content(
+                    mediaType = MediaType.MULTIPART_FORM_DATA_VALUE,
+                    schemaProperties = @SchemaProperty(
+                            name = "images",
+                            array = @ArraySchema(schema = @Schema(type = "string", format = "binary"))
+                    )
+            )
+    )
     @PostMapping(value = "/{id}/images", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ApiResponse<List<PostImageResponse>>> uploadImages(
             @Parameter(description = "이미지를 업로드할 게시글 ID", example = "1")
             @PathVariable Long id,
             @AuthenticationPrincipal UserDetails userDetails,
-            @Parameter(
-                    description = "업로드할 이미지 파일들 (다중 선택 가능)",
-                    content = @Content(mediaType = MediaType.MULTIPART_FORM_DATA_VALUE)
-            )
-            @RequestParam("images") List<MultipartFile> images) {
+            HttpServletRequest request) {
 
-        List<PostImageResponse> addedImages = postService.addImagesToPost(
-                id,
-                userDetails.getUsername(),
-                images
-        );
+        // 본문을 읽기 전에 권한 확인 후, 파일을 요청 본문에서 바로 저장소로 스트리밍
+        postService.checkImageUploadAllowed(id, userDetails.getUsername());
+        List<PostImageResponse> addedImages = multipartUploadService.receive(request, "images",
+                uploads -> postService.addImagesToPost(id, userDetails.getUsername(), uploads));
 
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success("이미지가 성공적으로 업로드되었습니다.", addedImages));
@@ -0,0 +1,46 @@
+package com.bsslab.domain.post.dto;
+
+import com.bsslab.global.exception.InvalidCursorException;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 게시글 목록 커서: 마지막으로 받은 게시글의 (작성 일시, ID)
+ * 클라이언트에는 불투명한 문자열(Base64 URL)로 전달한다.
+ */
+public record PostCursor(LocalDateTime createdAt, Long id) {
+
+    // 첫 페이지: 모든 게시글보다 뒤에 있는 가상의 위치
+    public static final PostCursor FIRST = new PostCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private static final String SEPARATOR = "|";
+
+    public static PostCursor of(PostListResponse post) {
+        return new PostCursor(post.getCreatedAt(), post.getId());
+    }
+
+    /**
+     * 커서 문자열 해석 (비어 있으면 첫 페이지)
+     */
+    public static PostCursor decode(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return FIRST;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+            return new PostCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -19,6 +19,12 @@ public class PostImageResponse {
     @Schema(description = "이미지 URL", example = "posts/abc123-def456.jpg")
     private String imageUrl;
 
+    @Schema(description = "목록용 축소본 URL (생성 전에는 원본)", example = "posts/abc123-def456-thumb.jpg")
+    private String thumbnailUrl;
+
+    @Schema(description = "본문용 중간 크기 URL (생성 전에는 원본)", example = "posts/abc123-def456-medium.jpg")
+    private String mediumUrl;
+
     @Schema(description = "파일 이름", example = "my-image.jpg")
     private String fileName;
 
@@ -32,6 +38,8 @@ public class PostImageResponse {
         return PostImageResponse.builder()
                 .id(postImage.getId())
                 .imageUrl(postImage.getImageUrl())
+                .thumbnailUrl(postImage.getThumbnailUrlOrOriginal())
+                .mediumUrl(postImage.getMediumUrlOrOriginal())
                 .fileName(postImage.getFileName())
                 .fileType(postImage.getFileType())
                 .fileSize(postImage.getFileSize())
@@ -1,6 +1,8 @@
 package com.bsslab.domain.post.dto;
 
 import com.bsslab.domain.post.entity.Post;
+import com.bsslab.domain.post.entity.PostImage;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -11,7 +13,7 @@ import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Schema(description = "게시글 목록 응답 DTO")
@@ -40,16 +42,28 @@ public class PostListResponse {
     @Schema(description = "첨부 이미지 여부", example = "true")
     private Boolean hasImage;
 
-    @Schema(description = "첫 번째 이미지 URL (썸네일)", example = "posts/abc123-def456.jpg")
+    @Schema(description = "첫 번째 이미지의 축소본 URL (생성 전에는 원본)", example = "posts/abc123-def456-thumb.jpg")
     private String thumbnailUrl;
 
+    @Schema(description = "검색어가 강조된 본문 요약 (검색 결과에만 포함)", example = "…BSS-Lab에서 <em>스프링</em> 부트 스터디를 모집합니다…")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String snippet;
+
+    /**
+     * 목록 조회 쿼리(constructor expression)용 생성자
+     */
+    public PostListResponse(Long id, String title, String category, Integer viewCount, Post.Status status,
+                            String username, LocalDateTime createdAt, String thumbnailUrl) {
+        this(id, title, category, viewCount, status, username, createdAt, thumbnailUrl != null, thumbnailUrl, null);
+    }
+
     public static PostListResponse from(Post post) {
         boolean hasImage = !post.getImages().isEmpty();
         String thumbnailUrl = null;
 
         if (hasImage) {
             thumbnailUrl = Optional.ofNullable(post.getImages().get(0))
-                    .map(image -> image.getImageUrl())
+                    .map(PostImage::getThumbnailUrlOrOriginal)
                     .orElse(null);
         }
 
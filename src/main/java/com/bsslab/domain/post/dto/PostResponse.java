@@ -32,6 +32,9 @@ public class PostResponse {
     @Schema(description = "조회수", example = "42")
     private Integer viewCount;
 
+    @Schema(description = "고유 조회자 수 (사용자/IP 기준 추정값, 오차 약 2%)", example = "31")
+    private Long uniqueViewCount;
+
     @Schema(description = "게시글 상태", example = "PUBLISHED")
     private Post.Status status;
 
@@ -50,7 +53,7 @@ public class PostResponse {
     @Schema(description = "첨부된 이미지 목록")
     private List<PostImageResponse> images;
 
-    public static PostResponse from(Post post) {
+    public static PostResponse from(Post post, String content) {
         List<PostImageResponse> imageResponses = post.getImages().stream()
                 .map(PostImageResponse::from)
                 .collect(Collectors.toList());
@@ -58,7 +61,7 @@ public class PostResponse {
         return PostResponse.builder()
                 .id(post.getId())
                 .title(post.getTitle())
-                .content(post.getContent())
+                .content(content)
                 .category(post.getCategory())
                 .viewCount(post.getViewCount())
                 .status(post.getStatus())
@@ -3,6 +3,7 @@ package com.bsslab.domain.post.entity;
 import com.bsslab.common.entity.BaseTimeEntity;
 import com.bsslab.domain.user.entity.User;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -12,7 +13,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        // 목록 커서 페이지네이션 (status, [category,] created_at DESC, id DESC)
+        @Index(name = "idx_posts_status_created_at_id", columnList = "status, created_at, id"),
+        @Index(name = "idx_posts_status_category_created_at_id", columnList = "status, category, created_at, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -29,8 +34,12 @@ public class Post extends BaseTimeEntity {
     @Column(nullable = false)
     private String title;
 
-    @Column(columnDefinition = "TEXT", nullable = false)
-    private String content;
+    /**
+     * 본문(PostBody)이 바뀔 때마다 증가 (본문만 수정해도 updatedAt이 갱신되도록)
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "body_revision", nullable = false, columnDefinition = "bigint default 0")
+    private Long bodyRevision = 0L;
 
     @Column(name = "view_count", nullable = false)
     private Integer viewCount = 0;
@@ -46,15 +55,18 @@ public class Post extends BaseTimeEntity {
     private List<PostImage> images = new ArrayList<>();
 
     @Builder
-    public Post(User user, String title, String content, Integer viewCount, String category, Status status) {
+    public Post(User user, String title, Integer viewCount, String category, Status status) {
         this.user = user;
         this.title = title;
-        this.content = content;
         this.viewCount = viewCount != null ? viewCount : 0;
         this.category = category;
         this.status = status;
     }
 
+    public void markBodyUpdated() {
+        this.bodyRevision = (this.bodyRevision != null ? this.bodyRevision : 0L) + 1;
+    }
+
     public void incrementViewCount() {
         this.viewCount += 1;
     }
@@ -0,0 +1,86 @@
+package com.bsslab.domain.post.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 게시글 본문 (posts와 1:1, 목록 조회가 본문을 읽지 않도록 별도 테이블로 분리)
+ *
+ * 기준 크기 이상의 본문은 gzip으로 압축해 compressed_content에 저장하고 content는 비워 둔다.
+ */
+@Entity
+@Table(name = "post_bodies")
+@Getter
+@NoArgsConstructor
+public class PostBody {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id")
+    private Post post;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "compressed_content", columnDefinition = "MEDIUMBLOB")
+    private byte[] compressedContent;
+
+    public PostBody(Post post, String text, int compressionThreshold) {
+        this.post = post;
+        setText(text, compressionThreshold);
+    }
+
+    /**
+     * 본문 교체
+     *
+     * @param compressionThreshold 이 크기(UTF-8 바이트) 이상이면 압축 저장, 0 이하면 압축하지 않음
+     */
+    public void setText(String text, int compressionThreshold) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        if (compressionThreshold > 0 && bytes.length >= compressionThreshold) {
+            this.content = null;
+            this.compressedContent = compress(bytes);
+        } else {
+            this.content = text;
+            this.compressedContent = null;
+        }
+    }
+
+    public String getText() {
+        return decode(content, compressedContent);
+    }
+
+    public static String decode(String content, byte[] compressedContent) {
+        if (compressedContent == null) {
+            return content != null ? content : "";
+        }
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressedContent))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decompress post body", e);
+        }
+    }
+
+    public static byte[] compress(byte[] bytes) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(bytes.length / 2);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress post body", e);
+        }
+        return buffer.toByteArray();
+    }
+}
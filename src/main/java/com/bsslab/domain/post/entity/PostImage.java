@@ -7,8 +7,18 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 @Entity
-@Table(name = "post_images")
+@Table(name = "post_images", indexes = {
+        // 파일 응답 시 원본 타입 조회, 파일 참조 수 확인
+        @Index(name = "idx_post_images_image_url", columnList = "image_url"),
+        @Index(name = "idx_post_images_thumbnail_url", columnList = "thumbnail_url"),
+        @Index(name = "idx_post_images_medium_url", columnList = "medium_url")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -34,6 +44,16 @@ public class PostImage extends BaseTimeEntity {
     @Column(name = "file_size")
     private Long fileSize;
 
+    /**
+     * 축소본 경로 (PostImageVariantService가 비동기로 생성, 생성 전에는 null)
+     * 축소할 수 없는 이미지는 원본 경로가 들어간다.
+     */
+    @Column(name = "thumbnail_url")
+    private String thumbnailUrl;
+
+    @Column(name = "medium_url")
+    private String mediumUrl;
+
     @Builder
     public PostImage(Post post, String imageUrl, String fileName, String fileType, Long fileSize) {
         this.post = post;
@@ -42,4 +62,22 @@ public class PostImage extends BaseTimeEntity {
         this.fileType = fileType;
         this.fileSize = fileSize;
     }
-}
\ No newline at end of file
+
+    public String getThumbnailUrlOrOriginal() {
+        return thumbnailUrl != null ? thumbnailUrl : imageUrl;
+    }
+
+    public String getMediumUrlOrOriginal() {
+        return mediumUrl != null ? mediumUrl : imageUrl;
+    }
+
+    /**
+     * 원본과 축소본을 포함해 디스크에 저장된 파일 목록
+     */
+    public List<String> getStoredFiles() {
+        return Stream.of(imageUrl, thumbnailUrl, mediumUrl)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+}
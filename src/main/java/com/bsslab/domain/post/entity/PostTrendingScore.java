@@ -0,0 +1,32 @@
+package com.bsslab.domain.post.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 게시글 점수 체크포인트 (PostTrendingService가 JDBC로 갱신)
+ *
+ * logScore는 forward decay 점수의 로그값으로, 조회 시각이 늦을수록 큰 가중치를 더하므로
+ * 시간이 지나도 다시 계산할 필요가 없고 노드별 증가분을 더해 합칠 수 있다.
+ */
+@Entity
+@Table(name = "post_trending_scores", indexes = {
+        @Index(name = "idx_post_trending_scores_log_score", columnList = "log_score")
+})
+@Getter
+@NoArgsConstructor
+public class PostTrendingScore {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(name = "log_score", nullable = false)
+    private Double logScore;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
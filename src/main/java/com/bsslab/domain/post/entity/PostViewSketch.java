@@ -0,0 +1,27 @@
+package com.bsslab.domain.post.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글별 고유 조회자 HyperLogLog sketch (PostUniqueViewCounter가 JDBC로 병합 저장)
+ */
+@Entity
+@Table(name = "post_view_sketches")
+@Getter
+@NoArgsConstructor
+public class PostViewSketch {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(nullable = false, columnDefinition = "BLOB")
+    private byte[] sketch;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
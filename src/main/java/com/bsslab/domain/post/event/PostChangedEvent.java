@@ -0,0 +1,13 @@
+package com.bsslab.domain.post.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글이 생성/수정/삭제되었음을 알리는 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostChangedEvent {
+    private final Long postId;
+}
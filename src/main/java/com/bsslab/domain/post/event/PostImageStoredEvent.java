@@ -0,0 +1,15 @@
+package com.bsslab.domain.post.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 이미지 원본이 저장되었음을 알리는 이벤트 (축소본 생성용)
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostImageStoredEvent {
+    private final Long imageId;
+    private final Long postId;
+    private final String imageUrl;
+}
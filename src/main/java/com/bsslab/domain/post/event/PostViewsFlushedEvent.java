@@ -0,0 +1,16 @@
+package com.bsslab.domain.post.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 메모리에 모은 조회수가 DB에 반영되었음을 알리는 이벤트 (PostViewCounter)
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostViewsFlushedEvent {
+    // 게시글 ID -> 이번에 반영된 조회수
+    private final Map<Long, Long> deltas;
+}
@@ -0,0 +1,15 @@
+package com.bsslab.domain.post.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 여러 게시글이 한 번에 변경/삭제되었음을 알리는 이벤트 (관리자 대량 처리)
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostsChangedEvent {
+    private final List<Long> postIds;
+}
@@ -0,0 +1,22 @@
+package com.bsslab.domain.post.repository;
+
+import com.bsslab.domain.post.entity.PostBody;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+@Repository
+public interface PostBodyRepository extends JpaRepository<PostBody, Long> {
+
+    @Modifying
+    @Query("DELETE FROM PostBody b WHERE b.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("DELETE FROM PostBody b WHERE b.postId IN :postIds")
+    int deleteByPostIdIn(@Param("postIds") Collection<Long> postIds);
+}
@@ -2,13 +2,53 @@ package com.bsslab.domain.post.repository;
 
 import com.bsslab.domain.post.entity.Post;
 import com.bsslab.domain.post.entity.PostImage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PostImageRepository extends JpaRepository<PostImage, Long> {
     List<PostImage> findByPostId(Long postId);
     void deleteByPostId(Long postId);
-}
\ No newline at end of file
+
+    List<PostImage> findByPostIdIn(Collection<Long> postIds);
+
+    @Query("SELECT MIN(i.fileType) FROM PostImage i WHERE i.imageUrl = :imageUrl")
+    Optional<String> findFileTypeByImageUrl(@Param("imageUrl") String imageUrl);
+
+    // 같은 내용의 파일은 한 벌만 저장되므로 여러 이미지가 같은 파일을 가리킬 수 있다
+    @Query("SELECT COUNT(i) FROM PostImage i " +
+            "WHERE i.imageUrl = :fileName OR i.thumbnailUrl = :fileName OR i.mediumUrl = :fileName")
+    long countByStoredFile(@Param("fileName") String fileName);
+
+    @Modifying
+    @Query("DELETE FROM PostImage i WHERE i.post.id IN :postIds")
+    int deleteByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    // 축소본이 아직 없는 이미지 (생성 작업이 유실된 경우 다시 처리)
+    @Query("SELECT i.id AS id, i.post.id AS postId, i.imageUrl AS imageUrl FROM PostImage i " +
+            "WHERE i.thumbnailUrl IS NULL AND i.createdAt < :before AND i.id > :afterId ORDER BY i.id")
+    List<PendingVariantView> findPendingVariants(@Param("before") LocalDateTime before, @Param("afterId") Long afterId,
+                                                 Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE PostImage i SET i.thumbnailUrl = :thumbnailUrl, i.mediumUrl = :mediumUrl WHERE i.id = :id")
+    int updateVariants(@Param("id") Long id, @Param("thumbnailUrl") String thumbnailUrl,
+                       @Param("mediumUrl") String mediumUrl);
+
+    interface PendingVariantView {
+        Long getId();
+        Long getPostId();
+        String getImageUrl();
+    }
+}
@@ -1,6 +1,8 @@
 package com.bsslab.domain.post.repository;
 
+import com.bsslab.domain.post.dto.PostListResponse;
 import com.bsslab.domain.post.entity.Post;
+import com.bsslab.domain.post.entity.PostBody;
 import com.bsslab.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,20 +12,152 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
-    Page<Post> findByStatus(Post.Status status, Pageable pageable);
-    Page<Post> findByCategoryAndStatus(String category, Post.Status status, Pageable pageable);
+    // 목록 조회용 projection: 목록 컬럼, 작성자 이름, 첫 이미지 축소본(없으면 원본) URL만 한 번의 쿼리로 조회 (content, 엔티티 로딩 없음)
+    String LIST_SELECT = "SELECT new com.bsslab.domain.post.dto.PostListResponse(" +
+            "p.id, p.title, p.category, p.viewCount, p.status, u.username, p.createdAt, " +
+            "(SELECT COALESCE(i.thumbnailUrl, i.imageUrl) FROM PostImage i WHERE i.id = " +
+            "(SELECT MIN(i2.id) FROM PostImage i2 WHERE i2.post = p))) " +
+            "FROM Post p LEFT JOIN p.user u ";
+
     Page<Post> findByUser(User user, Pageable pageable);
 
-    @Query("SELECT p FROM Post p WHERE (p.title LIKE %:keyword% OR p.content LIKE %:keyword%) AND p.status = :status")
-    Page<Post> searchByKeyword(@Param("keyword") String keyword, @Param("status") Post.Status status, Pageable pageable);
+    @Query(value = LIST_SELECT + "WHERE p.status = :status",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.status = :status")
+    Page<PostListResponse> findListByStatus(@Param("status") Post.Status status, Pageable pageable);
 
-    @Modifying
-    @Query("UPDATE Post p SET p.viewCount = p.viewCount + 1 WHERE p.id = :id")
-    void incrementViewCount(@Param("id") Long id);
+    @Query(value = LIST_SELECT + "WHERE p.category = :category AND p.status = :status",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.category = :category AND p.status = :status")
+    Page<PostListResponse> findListByCategoryAndStatus(@Param("category") String category,
+                                                       @Param("status") Post.Status status, Pageable pageable);
+
+    // 압축 저장된 본문(PostBody.compressedContent)은 LIKE 대상이 아니다 (제목만 비교)
+    String BODY_JOIN = "LEFT JOIN PostBody b ON b.postId = p.id ";
+    String KEYWORD_MATCH = "(p.title LIKE %:keyword% OR b.content LIKE %:keyword%) ";
+
+    @Query(value = LIST_SELECT + BODY_JOIN + "WHERE " + KEYWORD_MATCH + "AND p.status = :status",
+            countQuery = "SELECT COUNT(p) FROM Post p " + BODY_JOIN +
+                    "WHERE " + KEYWORD_MATCH + "AND p.status = :status")
+    Page<PostListResponse> searchListByKeyword(@Param("keyword") String keyword, @Param("status") Post.Status status,
+                                               Pageable pageable);
+
+    // 커서(keyset) 페이지: (createdAt, id)가 커서보다 앞선 게시글을 최신순으로. COUNT 쿼리 없음
+    String BEFORE_CURSOR = "(p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) ";
+    String CURSOR_ORDER = "ORDER BY p.createdAt DESC, p.id DESC";
+
+    @Query(LIST_SELECT + "WHERE p.status = :status AND " + BEFORE_CURSOR + CURSOR_ORDER)
+    List<PostListResponse> findListByStatusBefore(@Param("status") Post.Status status,
+                                                  @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                                  Pageable pageable);
+
+    @Query(LIST_SELECT + "WHERE p.status = :status AND p.category = :category AND " + BEFORE_CURSOR + CURSOR_ORDER)
+    List<PostListResponse> findListByCategoryAndStatusBefore(@Param("category") String category,
+                                                             @Param("status") Post.Status status,
+                                                             @Param("createdAt") LocalDateTime createdAt,
+                                                             @Param("id") Long id, Pageable pageable);
+
+    @Query(LIST_SELECT + BODY_JOIN + "WHERE " + KEYWORD_MATCH + "AND p.status = :status AND "
+            + BEFORE_CURSOR + CURSOR_ORDER)
+    List<PostListResponse> searchListByKeywordBefore(@Param("keyword") String keyword, @Param("status") Post.Status status,
+                                                     @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                                     Pageable pageable);
+
+    @Query(LIST_SELECT + "WHERE p.id IN :ids AND p.status = :status")
+    List<PostListResponse> findListByIdInAndStatus(@Param("ids") Collection<Long> ids, @Param("status") Post.Status status);
 
     Optional<Post> findByIdAndStatus(Long id, Post.Status status);
+
+    // 관리자 대량 처리: 조건에 맞는 게시글 ID를 id 순으로 청크 단위 조회 (null인 조건은 무시)
+    @Query("SELECT p.id FROM Post p LEFT JOIN p.user u WHERE p.id > :afterId " +
+            "AND (:category IS NULL OR p.category = :category) " +
+            "AND (:status IS NULL OR p.status = :status) " +
+            "AND (:username IS NULL OR u.username = :username) " +
+            "AND (:titleKeyword IS NULL OR p.title LIKE CONCAT('%', :titleKeyword, '%')) " +
+            "AND (:createdFrom IS NULL OR p.createdAt >= :createdFrom) " +
+            "AND (:createdTo IS NULL OR p.createdAt < :createdTo) " +
+            "ORDER BY p.id")
+    List<Long> findIdsByFilterAfter(@Param("afterId") Long afterId, @Param("category") String category,
+                                    @Param("status") Post.Status status, @Param("username") String username,
+                                    @Param("titleKeyword") String titleKeyword,
+                                    @Param("createdFrom") LocalDateTime createdFrom,
+                                    @Param("createdTo") LocalDateTime createdTo, Pageable pageable);
+
+    // 벌크 UPDATE는 auditing을 거치지 않으므로 updatedAt을 직접 지정한다
+    @Modifying
+    @Query("UPDATE Post p SET p.status = :status, p.updatedAt = :updatedAt WHERE p.id IN :ids AND p.status <> :status")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("status") Post.Status status,
+                           @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query("DELETE FROM Post p WHERE p.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    // ETag 계산용 버전 조회: 수정 일시와 이미지 변경(개수, 마지막 이미지 ID, 축소본 생성 수)만 읽는다
+    String VERSION_SELECT = "SELECT p.id AS id, p.updatedAt AS updatedAt, " +
+            "(SELECT COUNT(i) FROM PostImage i WHERE i.post = p) AS imageCount, " +
+            "(SELECT MAX(i2.id) FROM PostImage i2 WHERE i2.post = p) AS lastImageId, " +
+            "(SELECT COUNT(i3) FROM PostImage i3 WHERE i3.post = p AND i3.thumbnailUrl IS NOT NULL) AS variantCount " +
+            "FROM Post p ";
+
+    @Query(VERSION_SELECT + "WHERE p.id = :id AND p.status = :status")
+    Optional<PostVersionView> findVersionByIdAndStatus(@Param("id") Long id, @Param("status") Post.Status status);
+
+    @Query(value = VERSION_SELECT + "WHERE p.status = :status",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.status = :status")
+    Page<PostVersionView> findVersionsByStatus(@Param("status") Post.Status status, Pageable pageable);
+
+    @Query(value = VERSION_SELECT + "WHERE p.category = :category AND p.status = :status",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.category = :category AND p.status = :status")
+    Page<PostVersionView> findVersionsByCategoryAndStatus(@Param("category") String category,
+                                                          @Param("status") Post.Status status, Pageable pageable);
+
+    interface PostVersionView {
+        Long getId();
+        LocalDateTime getUpdatedAt();
+        Long getImageCount();
+        Long getLastImageId();
+        Long getVariantCount();
+    }
+
+    // 검색 색인용 조회
+    String SEARCH_SELECT = "SELECT p.id AS id, p.title AS title, b.content AS plainContent, " +
+            "b.compressedContent AS compressedContent, p.status AS status, p.createdAt AS createdAt " +
+            "FROM Post p " + BODY_JOIN;
+
+    @Query(SEARCH_SELECT + "WHERE p.id > :afterId AND p.status = :status ORDER BY p.id")
+    List<PostSearchView> findSearchDocumentsAfter(@Param("afterId") Long afterId, @Param("status") Post.Status status,
+                                                  Pageable pageable);
+
+    @Query(SEARCH_SELECT + "WHERE p.id = :id")
+    Optional<PostSearchView> findSearchDocumentById(@Param("id") Long id);
+
+    @Query(SEARCH_SELECT + "WHERE p.id IN :ids")
+    List<PostSearchView> findSearchDocumentsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(SEARCH_SELECT + "WHERE p.updatedAt >= :since")
+    List<PostSearchView> findSearchDocumentsUpdatedSince(@Param("since") LocalDateTime since);
+
+    // 색인과 비교해 다른 노드에서 삭제/비공개된 게시글을 찾는다
+    @Query("SELECT p.id FROM Post p WHERE p.id > :afterId AND p.status = :status ORDER BY p.id")
+    List<Long> findIdsByStatusAfter(@Param("afterId") Long afterId, @Param("status") Post.Status status,
+                                    Pageable pageable);
+
+    interface PostSearchView {
+        Long getId();
+        String getTitle();
+        String getPlainContent();
+        byte[] getCompressedContent();
+        Post.Status getStatus();
+        LocalDateTime getCreatedAt();
+
+        default String getContent() {
+            return PostBody.decode(getPlainContent(), getCompressedContent());
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.bsslab.domain.post.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 bigram 토크나이저
+ *
+ * 형태소 분석 없이 단어(문자/숫자 연속)를 두 글자씩 겹쳐 자르므로
+ * 조사가 붙은 한국어 단어("스프링을")도 부분 일치("스프링")로 찾을 수 있다.
+ */
+final class NGramTokenizer {
+
+    private NGramTokenizer() {
+    }
+
+    /**
+     * 텍스트를 bigram 목록으로 변환 (한 글자 단어는 그대로)
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : words(text)) {
+            if (word.length() == 1) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i + 2 <= word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 정규화(NFKC, 소문자)된 단어 목록
+     */
+    static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                words.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+}
@@ -0,0 +1,459 @@
+package com.bsslab.domain.post.search;
+
+import com.bsslab.domain.post.entity.Post;
+import com.bsslab.domain.post.event.PostChangedEvent;
+import com.bsslab.domain.post.event.PostsChangedEvent;
+import com.bsslab.domain.post.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.util.HtmlUtils;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 공개 게시글의 제목/내용 역색인 (메모리)
+ *
+ * bigram 단위로 색인하고, 모든 검색어 bigram을 포함하는 게시글을 BM25(제목 가중치 적용)로 정렬한다.
+ * 시작 시 DB에서 다시 만들고, 이후에는 PostChangedEvent로 증분 갱신한다.
+ * 다른 노드에서 바뀐 게시글은 updatedAt 기준 주기 동기화로, 삭제된 게시글은 공개 게시글 ID와의 주기 비교로 반영한다.
+ */
+@Component
+@Slf4j
+public class PostSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double TITLE_WEIGHT = 3.0;
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+    private static final int RECONCILE_BATCH_SIZE = 5000;
+    private static final int SNIPPET_RADIUS = 40;
+    // 노드 간 시계 차이를 고려해 동기화 구간을 조금 겹치게 잡는다
+    private static final long SYNC_OVERLAP_SECONDS = 60;
+
+    private final PostRepository postRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Long, Posting>> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private long totalTitleLength;
+    private long totalContentLength;
+
+    private volatile boolean ready = false;
+    private volatile LocalDateTime lastSyncedAt;
+    // 재구성 중 이벤트로 먼저 반영된 게시글 (재구성이 오래된 내용으로 덮어쓰지 않도록)
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    public PostSearchIndex(PostRepository postRepository) {
+        this.postRepository = postRepository;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 공개 게시글 전체로 색인을 만든다 (id 순서로 나누어 조회)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            long lastId = 0;
+            List<PostRepository.PostSearchView> batch;
+            do {
+                batch = postRepository.findSearchDocumentsAfter(lastId, Post.Status.PUBLISHED,
+                        PageRequest.of(0, REBUILD_BATCH_SIZE));
+                lock.writeLock().lock();
+                try {
+                    for (PostRepository.PostSearchView post : batch) {
+                        if (!changedDuringRebuild.contains(post.getId())) {
+                            put(post);
+                        }
+                        lastId = post.getId();
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+
+            lastSyncedAt = startedAt;
+            ready = true;
+            changedDuringRebuild.clear();
+            log.info("Post search index built with {} posts", size());
+        } catch (Exception e) {
+            log.warn("Failed to build post search index, search falls back to LIKE queries: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 게시글 변경이 커밋되면 DB의 현재 상태로 다시 색인
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (!ready) {
+            changedDuringRebuild.add(event.getPostId());
+        }
+        try {
+            Optional<PostRepository.PostSearchView> post = postRepository.findSearchDocumentById(event.getPostId());
+            apply(event.getPostId(), post.orElse(null));
+        } catch (Exception e) {
+            log.warn("Failed to reindex post {}: {}", event.getPostId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 대량 변경은 한 번의 조회로 다시 색인 (조회되지 않은 게시글은 삭제된 것으로 본다)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostsChanged(PostsChangedEvent event) {
+        if (!ready) {
+            changedDuringRebuild.addAll(event.getPostIds());
+        }
+        try {
+            Map<Long, PostRepository.PostSearchView> posts = new HashMap<>();
+            postRepository.findSearchDocumentsByIdIn(event.getPostIds())
+                    .forEach(post -> posts.put(post.getId(), post));
+            event.getPostIds().forEach(postId -> apply(postId, posts.get(postId)));
+        } catch (Exception e) {
+            log.warn("Failed to reindex {} posts: {}", event.getPostIds().size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드에서 생성/수정된 게시글 반영
+     */
+    @Scheduled(fixedDelayString = "${post.search.sync-interval:60000}")
+    public void sync() {
+        if (!ready) {
+            return;
+        }
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            postRepository.findSearchDocumentsUpdatedSince(lastSyncedAt.minusSeconds(SYNC_OVERLAP_SECONDS))
+                    .forEach(post -> apply(post.getId(), post));
+            lastSyncedAt = startedAt;
+        } catch (Exception e) {
+            log.warn("Failed to sync post search index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드에서 삭제된 게시글 반영
+     *
+     * 삭제는 updatedAt으로 알 수 없으므로 색인된 ID와 DB의 공개 게시글 ID를 id 순으로 맞춰 보고,
+     * DB에 없는 문서를 뺀다. 비교를 시작한 뒤 색인된 문서는 조회 시점과 어긋날 수 있어 건드리지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${post.search.reconcile-interval:600000}",
+            initialDelayString = "${post.search.reconcile-interval:600000}")
+    public void reconcile() {
+        if (!ready) {
+            return;
+        }
+        try {
+            long startedAt = System.currentTimeMillis();
+            long[] indexed;
+            lock.readLock().lock();
+            try {
+                indexed = documents.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            List<Long> missing = new ArrayList<>();
+            int position = 0;
+            long lastId = 0;
+            List<Long> batch;
+            do {
+                batch = postRepository.findIdsByStatusAfter(lastId, Post.Status.PUBLISHED,
+                        PageRequest.of(0, RECONCILE_BATCH_SIZE));
+                for (Long id : batch) {
+                    while (position < indexed.length && indexed[position] < id) {
+                        missing.add(indexed[position++]);
+                    }
+                    if (position < indexed.length && indexed[position] == id) {
+                        position++;
+                    }
+                    lastId = id;
+                }
+            } while (batch.size() == RECONCILE_BATCH_SIZE);
+            while (position < indexed.length) {
+                missing.add(indexed[position++]);
+            }
+
+            int removed = 0;
+            lock.writeLock().lock();
+            try {
+                for (Long postId : missing) {
+                    Document document = documents.get(postId);
+                    if (document != null && document.indexedAt() < startedAt) {
+                        remove(postId);
+                        removed++;
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (removed > 0) {
+                log.info("Removed {} deleted or unpublished posts from the search index", removed);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to reconcile post search index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 검색
+     *
+     * @return 관련도 순 게시글 ID. 색인이 준비되지 않았거나 bigram을 만들 수 없는 검색어(한 글자)면 empty
+     */
+    public Optional<SearchResult> search(String query, long offset, int limit) {
+        return match(query).map(matches -> {
+            matches.sort(Comparator.comparingDouble(ScoredPost::score).reversed()
+                    .thenComparing(ScoredPost::createdAt, Comparator.nullsLast(Comparator.reverseOrder())));
+
+            List<Long> postIds = matches.stream()
+                    .skip(offset)
+                    .limit(limit)
+                    .map(ScoredPost::postId)
+                    .toList();
+            return new SearchResult(postIds, matches.size());
+        });
+    }
+
+    /**
+     * 커서 검색: (작성 일시, ID)가 커서보다 앞선 일치 게시글을 최신순으로
+     *
+     * @return 최신순 게시글 ID (최대 limit개). 색인을 쓸 수 없으면 empty
+     */
+    public Optional<List<Long>> searchBefore(String query, LocalDateTime createdAt, Long id, int limit) {
+        Comparator<ScoredPost> newestFirst = Comparator.comparing(ScoredPost::createdAt,
+                        Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+                .thenComparing(ScoredPost::postId, Comparator.reverseOrder());
+        ScoredPost cursor = new ScoredPost(id, 0, createdAt);
+
+        return match(query).map(matches -> matches.stream()
+                .filter(post -> newestFirst.compare(post, cursor) > 0)
+                .sorted(newestFirst)
+                .limit(limit)
+                .map(ScoredPost::postId)
+                .toList());
+    }
+
+    private Optional<List<ScoredPost>> match(String query) {
+        Set<String> terms = new LinkedHashSet<>(NGramTokenizer.tokenize(query));
+        if (!ready || terms.isEmpty() || terms.stream().anyMatch(term -> term.length() < 2)) {
+            return Optional.empty();
+        }
+
+        List<ScoredPost> scored = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Posting>> termPostings = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<Long, Posting> posting = postings.get(term);
+                if (posting == null) {
+                    return Optional.of(scored);
+                }
+                termPostings.add(posting);
+            }
+            termPostings.sort(Comparator.comparingInt(Map::size));
+
+            double averageTitleLength = Math.max(1.0, (double) totalTitleLength / documents.size());
+            double averageContentLength = Math.max(1.0, (double) totalContentLength / documents.size());
+
+            // 가장 짧은 posting 목록을 기준으로 모든 bigram을 포함하는 게시글만 점수 계산
+            for (Long postId : termPostings.get(0).keySet()) {
+                Document document = documents.get(postId);
+                double score = 0;
+                boolean matchesAll = true;
+                for (Map<Long, Posting> posting : termPostings) {
+                    Posting entry = posting.get(postId);
+                    if (entry == null) {
+                        matchesAll = false;
+                        break;
+                    }
+                    score += score(entry, posting.size(), document, averageTitleLength, averageContentLength);
+                }
+                if (matchesAll) {
+                    scored.add(new ScoredPost(postId, score, document.createdAt()));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return Optional.of(scored);
+    }
+
+    /**
+     * 검색어가 처음 등장하는 부분의 요약 (HTML escape 후 검색어를 &lt;em&gt;으로 강조)
+     */
+    public String snippet(Long postId, String query) {
+        Document document;
+        lock.readLock().lock();
+        try {
+            document = documents.get(postId);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (document == null) {
+            return null;
+        }
+
+        List<String> words = NGramTokenizer.words(query);
+        String text = document.content() != null ? document.content() : "";
+        int position = indexOfAny(text, words, 0, text.length());
+        if (position < 0 && indexOfAny(document.title(), words, 0, document.title().length()) >= 0) {
+            text = document.title();
+            position = indexOfAny(text, words, 0, text.length());
+        }
+        position = Math.max(0, position);
+
+        int start = Math.max(0, position - SNIPPET_RADIUS);
+        int end = Math.min(text.length(), position + SNIPPET_RADIUS * 2);
+
+        StringBuilder snippet = new StringBuilder();
+        if (start > 0) {
+            snippet.append("…");
+        }
+        int cursor = start;
+        while (cursor < end) {
+            int match = indexOfAny(text, words, cursor, end);
+            if (match < 0) {
+                snippet.append(HtmlUtils.htmlEscape(text.substring(cursor, end)));
+                break;
+            }
+            int matchLength = matchLength(text, words, match);
+            snippet.append(HtmlUtils.htmlEscape(text.substring(cursor, match)))
+                    .append("<em>")
+                    .append(HtmlUtils.htmlEscape(text.substring(match, match + matchLength)))
+                    .append("</em>");
+            cursor = match + matchLength;
+        }
+        if (end < text.length()) {
+            snippet.append("…");
+        }
+        return snippet.toString();
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(Long postId, PostRepository.PostSearchView post) {
+        lock.writeLock().lock();
+        try {
+            if (post != null && post.getStatus() == Post.Status.PUBLISHED) {
+                put(post);
+            } else {
+                remove(postId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // write lock을 잡은 상태에서 호출
+    private void put(PostRepository.PostSearchView post) {
+        remove(post.getId());
+
+        List<String> titleTokens = NGramTokenizer.tokenize(post.getTitle());
+        String content = post.getContent();
+        List<String> contentTokens = NGramTokenizer.tokenize(content);
+
+        Map<String, int[]> frequencies = new HashMap<>();
+        titleTokens.forEach(token -> frequencies.computeIfAbsent(token, t -> new int[2])[0]++);
+        contentTokens.forEach(token -> frequencies.computeIfAbsent(token, t -> new int[2])[1]++);
+
+        frequencies.forEach((term, frequency) -> postings
+                .computeIfAbsent(term, t -> new HashMap<>())
+                .put(post.getId(), new Posting(frequency[0], frequency[1])));
+
+        documents.put(post.getId(), new Document(post.getTitle(), content, post.getCreatedAt(),
+                titleTokens.size(), contentTokens.size(), Set.copyOf(frequencies.keySet()),
+                System.currentTimeMillis()));
+        totalTitleLength += titleTokens.size();
+        totalContentLength += contentTokens.size();
+    }
+
+    // write lock을 잡은 상태에서 호출
+    private void remove(Long postId) {
+        Document document = documents.remove(postId);
+        if (document == null) {
+            return;
+        }
+
+        for (String term : document.terms()) {
+            Map<Long, Posting> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(postId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalTitleLength -= document.titleLength();
+        totalContentLength -= document.contentLength();
+    }
+
+    /**
+     * BM25F: 필드별 길이 정규화를 한 빈도에 제목 가중치를 주어 합친 뒤 BM25 포화 함수를 적용
+     */
+    private double score(Posting posting, int documentFrequency, Document document,
+                         double averageTitleLength, double averageContentLength) {
+        double titleFrequency = posting.titleFrequency()
+                / (1 - B + B * document.titleLength() / averageTitleLength);
+        double contentFrequency = posting.contentFrequency()
+                / (1 - B + B * document.contentLength() / averageContentLength);
+        double frequency = TITLE_WEIGHT * titleFrequency + contentFrequency;
+
+        double idf = Math.log(1 + (documents.size() - documentFrequency + 0.5) / (documentFrequency + 0.5));
+        return idf * frequency * (K1 + 1) / (frequency + K1);
+    }
+
+    private static int indexOfAny(String text, List<String> words, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (matchLength(text, words, i) > 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int matchLength(String text, List<String> words, int position) {
+        int longest = 0;
+        for (String word : words) {
+            if (word.length() > longest && text.regionMatches(true, position, word, 0, word.length())) {
+                longest = word.length();
+            }
+        }
+        return longest;
+    }
+
+    public record SearchResult(List<Long> postIds, long totalHits) {
+    }
+
+    private record Posting(int titleFrequency, int contentFrequency) {
+    }
+
+    private record Document(String title, String content, LocalDateTime createdAt,
+                            int titleLength, int contentLength, Set<String> terms, long indexedAt) {
+    }
+
+    private record ScoredPost(Long postId, double score, LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,87 @@
+package com.bsslab.domain.post.service;
+
+import com.bsslab.domain.post.entity.PostBody;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * posts.content 컬럼을 post_bodies 테이블로 옮기는 일회성 마이그레이션
+ *
+ * 스키마 갱신(ddl-auto)이 끝난 뒤 요청을 받기 전에 실행되며, posts.content가 남아 있을 때만 동작한다.
+ * 중간에 실패해도 다음 기동 때 이어서 진행된다.
+ */
+@Component
+@Slf4j
+public class PostBodyMigration {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int compressionThreshold;
+
+    // EntityManagerFactory: 스키마 갱신(post_bodies 생성) 이후에 실행되도록 의존
+    public PostBodyMigration(JdbcTemplate jdbcTemplate,
+                             EntityManagerFactory entityManagerFactory,
+                             @Value("${post.body.compression-threshold:4096}") int compressionThreshold) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @PostConstruct
+    public void migrate() {
+        Integer legacyColumns = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.COLUMNS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'posts' AND COLUMN_NAME = 'content'",
+                Integer.class);
+        if (legacyColumns == null || legacyColumns == 0) {
+            return;
+        }
+
+        int copied = jdbcTemplate.update("INSERT INTO post_bodies (post_id, content) " +
+                "SELECT p.id, p.content FROM posts p LEFT JOIN post_bodies b ON b.post_id = p.id " +
+                "WHERE b.post_id IS NULL");
+        int compressed = compressLargeBodies();
+        jdbcTemplate.execute("ALTER TABLE posts DROP COLUMN content");
+
+        log.info("Moved {} post bodies to post_bodies ({} compressed)", copied, compressed);
+    }
+
+    private int compressLargeBodies() {
+        if (compressionThreshold <= 0) {
+            return 0;
+        }
+
+        int compressed = 0;
+        long afterId = 0;
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    "SELECT post_id, content FROM post_bodies " +
+                            "WHERE post_id > ? AND compressed_content IS NULL AND LENGTH(content) >= ? " +
+                            "ORDER BY post_id LIMIT ?",
+                    afterId, compressionThreshold, BATCH_SIZE);
+            if (rows.isEmpty()) {
+                return compressed;
+            }
+
+            List<Object[]> batchArgs = rows.stream()
+                    .map(row -> new Object[]{
+                            PostBody.compress(((String) row.get("content")).getBytes(StandardCharsets.UTF_8)),
+                            row.get("post_id")})
+                    .collect(Collectors.toList());
+            jdbcTemplate.batchUpdate("UPDATE post_bodies SET content = NULL, compressed_content = ? WHERE post_id = ?",
+                    batchArgs);
+
+            compressed += rows.size();
+            afterId = ((Number) rows.get(rows.size() - 1).get("post_id")).longValue();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.bsslab.domain.post.service;
+
+import com.bsslab.domain.post.repository.PostRepository.PostVersionView;
+import org.springframework.data.domain.Page;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 게시글 ETag 계산 (ID/수정 일시/이미지·축소본 버전 기준, 조회수는 포함하지 않음)
+ */
+final class PostETags {
+
+    private PostETags() {
+    }
+
+    static String of(PostVersionView version) {
+        return hash(versionKey(version));
+    }
+
+    // 페이지에 포함된 게시글 버전과 전체 개수의 해시
+    static String of(Page<PostVersionView> versions) {
+        StringBuilder key = new StringBuilder()
+                .append(versions.getTotalElements()).append('/')
+                .append(versions.getNumber()).append('/')
+                .append(versions.getSize());
+        versions.forEach(version -> key.append(';').append(versionKey(version)));
+        return hash(key.toString());
+    }
+
+    private static String versionKey(PostVersionView version) {
+        return version.getId() + ":" + version.getUpdatedAt() + ":" + version.getImageCount() + ":" + version.getLastImageId()
+                + ":" + version.getVariantCount();
+    }
+
+    private static String hash(String value) {
+        return DigestUtils.md5DigestAsHex(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
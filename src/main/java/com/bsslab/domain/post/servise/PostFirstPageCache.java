@@ -0,0 +1,152 @@
+package com.bsslab.domain.post.service;
+
+import com.bsslab.domain.post.dto.PostListResponse;
+import com.bsslab.domain.post.entity.Post;
+import com.bsslab.domain.post.event.PostChangedEvent;
+import com.bsslab.domain.post.event.PostViewsFlushedEvent;
+import com.bsslab.domain.post.event.PostsChangedEvent;
+import com.bsslab.domain.post.repository.PostRepository;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 전체/카테고리별 목록 첫 페이지 캐시
+ *
+ * 최신순 첫 페이지와 그 ETag를 함께 보관한다. 같은 키의 동시 미스는 하나의 DB 조회를 기다리고,
+ * 게시글이 바뀌면 기존 값을 응답하면서 백그라운드에서 다시 읽는다.
+ * 캐시된 조회수에는 읽을 때 아직 반영되지 않은 조회수를 더한다. 이 노드의 조회수가 DB에 반영되면
+ * 그만큼 대기 중 조회수가 줄어들므로, 페이지를 버리지 않고 반영된 조회수를 페이지에 따로 쌓아 두고 읽을 때 더한다.
+ * 다른 노드에서의 변경과 조회수 반영(그리고 다시 읽는 중에 겹친 반영)은 refresh-after 주기로 따라잡는다.
+ */
+@Component
+public class PostFirstPageCache {
+
+    private static final Sort FIRST_PAGE_SORT = Sort.by(Sort.Direction.DESC, "createdAt");
+
+    private final PostRepository postRepository;
+    private final int maxPageSize;
+    private final ExecutorService executor;
+    private final AsyncLoadingCache<Key, FirstPage> cache;
+
+    public PostFirstPageCache(PostRepository postRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${post.first-page-cache.max-size:200}") long maxSize,
+                              @Value("${post.first-page-cache.max-page-size:50}") int maxPageSize,
+                              @Value("${post.first-page-cache.refresh-after:30s}") Duration refreshAfter) {
+        this.postRepository = postRepository;
+        this.maxPageSize = maxPageSize;
+        this.executor = Executors.newFixedThreadPool(2, new CustomizableThreadFactory("post-first-page-"));
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .refreshAfterWrite(refreshAfter)
+                .executor(executor)
+                .recordStats()
+                .buildAsync(this::load);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "post-first-page");
+    }
+
+    /**
+     * 최신순 첫 페이지 요청이면 캐시된 페이지 (category가 null이면 전체)
+     * 반환된 목록은 다른 요청과 공유되므로 수정하면 안 된다.
+     */
+    public Optional<FirstPage> get(String category, Pageable pageable) {
+        if (pageable.getPageNumber() != 0 || pageable.getPageSize() > maxPageSize
+                || !FIRST_PAGE_SORT.equals(pageable.getSort())) {
+            return Optional.empty();
+        }
+        return Optional.of(cache.get(new Key(category, pageable.getPageSize())).join());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        refreshAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostsChanged(PostsChangedEvent event) {
+        refreshAll();
+    }
+
+    @EventListener
+    public void onViewsFlushed(PostViewsFlushedEvent event) {
+        cache.asMap().forEach((key, future) -> {
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                future.join().addFlushedViews(event.getDeltas());
+            } else {
+                // 반영 전 값을 읽었을 수 있는 첫 로드는 버린다 (기다리던 요청은 그대로 결과를 받음)
+                cache.asMap().remove(key, future);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 변경된 게시글의 이전/현재 카테고리를 알 수 없으므로 캐시된 키를 모두 다시 읽는다 (키 수는 적다)
+    private void refreshAll() {
+        cache.synchronous().refreshAll(List.copyOf(cache.asMap().keySet()));
+    }
+
+    private FirstPage load(Key key) {
+        Pageable pageable = PageRequest.of(0, key.size(), FIRST_PAGE_SORT);
+        Page<PostListResponse> page;
+        Page<PostRepository.PostVersionView> versions;
+        if (key.category() == null) {
+            page = postRepository.findListByStatus(Post.Status.PUBLISHED, pageable);
+            versions = postRepository.findVersionsByStatus(Post.Status.PUBLISHED, pageable);
+        } else {
+            page = postRepository.findListByCategoryAndStatus(key.category(), Post.Status.PUBLISHED, pageable);
+            versions = postRepository.findVersionsByCategoryAndStatus(key.category(), Post.Status.PUBLISHED, pageable);
+        }
+        return new FirstPage(new PageImpl<>(List.copyOf(page.getContent()), pageable, page.getTotalElements()),
+                PostETags.of(versions), new ConcurrentHashMap<>());
+    }
+
+    /**
+     * flushedViews: 페이지를 읽은 뒤 DB에 반영된 조회수 (게시글 ID별)
+     */
+    public record FirstPage(Page<PostListResponse> page, String etag, Map<Long, LongAdder> flushedViews) {
+
+        public long flushedViews(Long postId) {
+            LongAdder adder = flushedViews.get(postId);
+            return adder != null ? adder.sum() : 0;
+        }
+
+        private void addFlushedViews(Map<Long, Long> deltas) {
+            for (PostListResponse row : page.getContent()) {
+                Long delta = deltas.get(row.getId());
+                if (delta != null) {
+                    flushedViews.computeIfAbsent(row.getId(), id -> new LongAdder()).add(delta);
+                }
+            }
+        }
+    }
+
+    private record Key(String category, int size) {
+    }
+}
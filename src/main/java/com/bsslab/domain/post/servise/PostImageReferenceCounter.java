@@ -0,0 +1,21 @@
+package com.bsslab.domain.post.service;
+
+import com.bsslab.domain.post.repository.PostImageRepository;
+import com.bsslab.global.file.FileReferenceCounter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 이미지(원본/축소본)가 참조하는 파일 수
+ */
+@Component
+@RequiredArgsConstructor
+public class PostImageReferenceCounter implements FileReferenceCounter {
+
+    private final PostImageRepository postImageRepository;
+
+    @Override
+    public long countReferences(String fileName) {
+        return postImageRepository.countByStoredFile(fileName);
+    }
+}
@@ -0,0 +1,251 @@
+package com.bsslab.domain.post.service;
+
+import com.bsslab.domain.post.event.PostChangedEvent;
+import com.bsslab.domain.post.event.PostImageStoredEvent;
+import com.bsslab.domain.post.repository.PostImageRepository;
+import com.bsslab.global.service.FileStorageService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.imageio.IIOException;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 이미지 축소본(thumbnail, medium) 생성
+ *
+ * 원본 저장이 커밋된 뒤 제한된 작업 스레드에서 ImageIO로 축소본을 만들고 PostImage에 경로를 기록한다.
+ * 큐가 가득 차거나 작업이 유실된 이미지는 주기적인 보충 작업이 다시 처리한다.
+ * 읽을 수 없는 형식이거나 픽셀 수 상한을 넘거나 이미 충분히 작은 이미지는 원본 경로를 그대로 기록한다.
+ */
+@Service
+@Slf4j
+public class PostImageVariantService {
+
+    private static final String THUMBNAIL = "thumb";
+    private static final String MEDIUM = "medium";
+    // 보충 작업이 막 저장된(이벤트로 처리 중인) 이미지를 건드리지 않도록
+    private static final long BACKFILL_DELAY_MINUTES = 5;
+    private static final int BACKFILL_BATCH_SIZE = 50;
+
+    private final PostImageRepository postImageRepository;
+    private final FileStorageService fileStorageService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int thumbnailWidth;
+    private final int mediumWidth;
+    private final long maxPixels;
+    private final ThreadPoolExecutor executor;
+
+    public PostImageVariantService(PostImageRepository postImageRepository,
+                                   FileStorageService fileStorageService,
+                                   ApplicationEventPublisher eventPublisher,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${post.image-variant.threads:2}") int threads,
+                                   @Value("${post.image-variant.queue-capacity:100}") int queueCapacity,
+                                   @Value("${post.image-variant.thumbnail-width:320}") int thumbnailWidth,
+                                   @Value("${post.image-variant.medium-width:1024}") int mediumWidth,
+                                   @Value("${post.image-variant.max-pixels:50000000}") long maxPixels) {
+        this.postImageRepository = postImageRepository;
+        this.fileStorageService = fileStorageService;
+        this.eventPublisher = eventPublisher;
+        this.thumbnailWidth = thumbnailWidth;
+        this.mediumWidth = mediumWidth;
+        this.maxPixels = maxPixels;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("post-image-variant-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "post-image-variant");
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onImageStored(PostImageStoredEvent event) {
+        submit(event.getImageId(), event.getPostId(), event.getImageUrl());
+    }
+
+    @Scheduled(fixedDelayString = "${post.image-variant.backfill-interval:60000}")
+    public void backfill() {
+        try {
+            LocalDateTime before = LocalDateTime.now().minusMinutes(BACKFILL_DELAY_MINUTES);
+            long afterId = 0;
+            List<PostImageRepository.PendingVariantView> batch;
+            do {
+                batch = postImageRepository.findPendingVariants(before, afterId, PageRequest.of(0, BACKFILL_BATCH_SIZE));
+                for (PostImageRepository.PendingVariantView image : batch) {
+                    if (!submit(image.getId(), image.getPostId(), image.getImageUrl())) {
+                        return;
+                    }
+                    afterId = image.getId();
+                }
+            } while (batch.size() == BACKFILL_BATCH_SIZE);
+        } catch (Exception e) {
+            log.warn("Failed to backfill image variants: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private boolean submit(Long imageId, Long postId, String imageUrl) {
+        try {
+            executor.execute(() -> createVariants(imageId, postId, imageUrl));
+            return true;
+        } catch (RejectedExecutionException e) {
+            // 보충 작업이 나중에 처리
+            log.debug("Image variant queue is full, deferring image {}", imageId);
+            return false;
+        }
+    }
+
+    private void createVariants(Long imageId, Long postId, String imageUrl) {
+        String thumbnailUrl = imageUrl;
+        String mediumUrl = imageUrl;
+        try {
+            BufferedImage source = read(fileStorageService.getFilePath(imageUrl), mediumWidth);
+            if (source != null) {
+                mediumUrl = store(imageUrl, MEDIUM, source, mediumWidth);
+                thumbnailUrl = store(imageUrl, THUMBNAIL, source, thumbnailWidth);
+            } else {
+                log.info("Unsupported or oversized image, serving original for image {}", imageId);
+            }
+        } catch (Exception e) {
+            // 일시적인 IO 오류나 종료 중 중단일 수 있으므로 기록하지 않고 보충 작업이 다시 처리하게 둔다
+            log.warn("Failed to create variants for image {}, will retry: {}", imageId, e.getMessage());
+            return;
+        }
+
+        try {
+            if (postImageRepository.updateVariants(imageId, thumbnailUrl, mediumUrl) == 0) {
+                // 처리 중에 이미지가 삭제됨
+                deleteIfVariant(imageUrl, thumbnailUrl);
+                deleteIfVariant(imageUrl, mediumUrl);
+                return;
+            }
+            // 목록 캐시/ETag 갱신
+            eventPublisher.publishEvent(new PostChangedEvent(postId));
+        } catch (Exception e) {
+            log.warn("Failed to record variants for image {}: {}", imageId, e.getMessage());
+        }
+    }
+
+    /**
+     * 필요한 최대 폭(maxWidth)의 2배 이상이 되도록 서브샘플링해서 읽는다 (큰 원본을 전부 디코딩하지 않음)
+     * 세로로 긴 이미지도 디코딩 결과가 (2 * maxWidth)^2의 4배 픽셀을 넘지 않도록 높이까지 고려한다.
+     *
+     * @return 읽을 수 없는 형식이거나 픽셀 수가 상한(max-pixels)을 넘으면 null
+     */
+    private BufferedImage read(Path path, int maxWidth) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(path.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                // 헤더의 크기만 먼저 읽어 압축률이 높은 거대 이미지를 디코딩하기 전에 거른다
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                long pixels = (long) width * height;
+                if (pixels > maxPixels) {
+                    log.info("Image {} has {}x{} pixels, over the limit of {}", path.getFileName(), width, height, maxPixels);
+                    return null;
+                }
+                long decodeBudget = 4L * (maxWidth * 2L) * (maxWidth * 2L);
+                int subsampling = (int) Math.max(1, Math.max(width / (maxWidth * 2L),
+                        (long) Math.ceil(Math.sqrt((double) pixels / decodeBudget))));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } catch (IIOException e) {
+                // 파일 읽기 오류가 원인이면 다시 시도하고, 손상된 이미지 데이터면 읽을 수 없는 형식으로 본다
+                if (e.getCause() instanceof IOException && !(e.getCause() instanceof IIOException)) {
+                    throw e;
+                }
+                log.info("Cannot decode image {}: {}", path.getFileName(), e.getMessage());
+                return null;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 원본이 이미 충분히 작으면 원본 경로를 그대로 쓴다
+    private String store(String imageUrl, String suffix, BufferedImage source, int targetWidth) throws IOException {
+        if (source.getWidth() <= targetWidth) {
+            return imageUrl;
+        }
+
+        boolean alpha = source.getColorModel().hasAlpha();
+        BufferedImage resized = resize(source, targetWidth, alpha);
+        String format = alpha ? "png" : "jpg";
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        if (!ImageIO.write(resized, format, buffer)) {
+            return imageUrl;
+        }
+        return fileStorageService.storeDerivedFile(imageUrl, suffix, format, buffer.toByteArray());
+    }
+
+    // 절반씩 줄여 가며 축소해 bilinear 한 번으로 크게 줄일 때의 계단 현상을 줄인다
+    private BufferedImage resize(BufferedImage source, int targetWidth, boolean alpha) {
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+        int type = alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = width == targetWidth ? targetHeight : Math.max(targetHeight, height / 2);
+
+            BufferedImage next = new BufferedImage(width, height, type);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (width > targetWidth);
+        return current;
+    }
+
+    private void deleteIfVariant(String imageUrl, String variantUrl) {
+        if (!variantUrl.equals(imageUrl)) {
+            fileStorageService.deleteFile(variantUrl);
+        }
+    }
+}
@@ -1,28 +1,42 @@
 package com.bsslab.domain.post.service;
 
+import com.bsslab.domain.post.dto.PostCursor;
 import com.bsslab.domain.post.dto.PostImageResponse;
 import com.bsslab.domain.post.dto.PostListResponse;
 import com.bsslab.domain.post.dto.PostRequest;
 import com.bsslab.domain.post.dto.PostResponse;
 import com.bsslab.domain.post.entity.Post;
+import com.bsslab.domain.post.entity.PostBody;
 import com.bsslab.domain.post.entity.PostImage;
+import com.bsslab.domain.post.event.PostChangedEvent;
+import com.bsslab.domain.post.event.PostImageStoredEvent;
+import com.bsslab.domain.post.repository.PostBodyRepository;
 import com.bsslab.domain.post.repository.PostImageRepository;
 import com.bsslab.domain.post.repository.PostRepository;
+import com.bsslab.domain.post.search.PostSearchIndex;
 import com.bsslab.domain.user.entity.User;
 import com.bsslab.domain.user.repository.UserRepository;
+import com.bsslab.domain.user.service.UserLookupService;
+import com.bsslab.global.dto.CursorResponse;
 import com.bsslab.global.exception.GlobalExceptionHandler.ResourceNotFoundException;
+import com.bsslab.global.file.StoredUpload;
 import com.bsslab.global.service.FileStorageService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,63 +44,144 @@ import java.util.stream.Collectors;
 public class PostService {
 
     private final PostRepository postRepository;
+    private final PostBodyRepository postBodyRepository;
     private final PostImageRepository postImageRepository;
     private final UserRepository userRepository;
+    private final UserLookupService userLookupService;
     private final FileStorageService fileStorageService;
+    private final PostViewCounter postViewCounter;
+    private final PostUniqueViewCounter postUniqueViewCounter;
+    private final PostTrendingService postTrendingService;
+    private final PostFirstPageCache postFirstPageCache;
+    private final PostSearchIndex postSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 이 크기(UTF-8 바이트) 이상인 본문은 압축 저장
+    @Value("${post.body.compression-threshold:4096}")
+    private int bodyCompressionThreshold;
 
     @Transactional
-    public Long createPost(String username, PostRequest requestDto, List<MultipartFile> images) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
+    public Long createPost(String username, PostRequest requestDto, List<StoredUpload> images) {
+        // 캐시된 사용자 ID로 프록시만 만들어 연관관계에 사용 (users 테이블 조회 없음)
+        User user = userRepository.getReferenceById(userLookupService.getByUsername(username).getId());
 
         Post.Status status = requestDto.getStatus() != null ? requestDto.getStatus() : Post.Status.PUBLISHED;
 
         Post post = Post.builder()
                 .user(user)
                 .title(requestDto.getTitle())
-                .content(requestDto.getContent())
                 .category(requestDto.getCategory())
                 .viewCount(0)
                 .status(status)
                 .build();
 
         post = postRepository.save(post);
+        postBodyRepository.save(new PostBody(post, requestDto.getContent(), bodyCompressionThreshold));
 
         // Process images if provided
         if (images != null && !images.isEmpty()) {
-            for (MultipartFile image : images) {
-                if (!image.isEmpty()) {
-                    savePostImage(post, image);
-                }
+            for (StoredUpload image : images) {
+                savePostImage(post, image);
             }
         }
 
+        eventPublisher.publishEvent(new PostChangedEvent(post.getId()));
         return post.getId();
     }
 
-    @Transactional(readOnly = true)
+    // 목록/ETag 조회는 트랜잭션 없이 실행 (캐시 적중 시 DB 커넥션을 잡지 않도록)
     public Page<PostListResponse> getPosts(Pageable pageable) {
-        Page<Post> posts = postRepository.findByStatus(Post.Status.PUBLISHED, pageable);
-        return posts.map(PostListResponse::from);
+        Optional<PostFirstPageCache.FirstPage> firstPage = postFirstPageCache.get(null, pageable);
+        if (firstPage.isPresent()) {
+            return withViewCounts(firstPage.get());
+        }
+        return postRepository.findListByStatus(Post.Status.PUBLISHED, pageable)
+                .map(this::applyPendingViews);
     }
 
-    @Transactional(readOnly = true)
     public Page<PostListResponse> getPostsByCategory(String category, Pageable pageable) {
-        Page<Post> posts = postRepository.findByCategoryAndStatus(category, Post.Status.PUBLISHED, pageable);
-        return posts.map(PostListResponse::from);
+        Optional<PostFirstPageCache.FirstPage> firstPage = postFirstPageCache.get(category, pageable);
+        if (firstPage.isPresent()) {
+            return withViewCounts(firstPage.get());
+        }
+        return postRepository.findListByCategoryAndStatus(category, Post.Status.PUBLISHED, pageable)
+                .map(this::applyPendingViews);
     }
 
-    @Transactional
-    public PostResponse getPost(Long id) {
+    /**
+     * 목록 ETag: 페이지에 포함된 게시글의 ID/수정 일시/이미지 버전과 전체 개수의 해시
+     * 조회수는 포함하지 않는다.
+     */
+    public String getPostsETag(Pageable pageable) {
+        return postFirstPageCache.get(null, pageable)
+                .map(PostFirstPageCache.FirstPage::etag)
+                .orElseGet(() -> PostETags.of(postRepository.findVersionsByStatus(Post.Status.PUBLISHED, pageable)));
+    }
+
+    public String getPostsByCategoryETag(String category, Pageable pageable) {
+        return postFirstPageCache.get(category, pageable)
+                .map(PostFirstPageCache.FirstPage::etag)
+                .orElseGet(() -> PostETags.of(
+                        postRepository.findVersionsByCategoryAndStatus(category, Post.Status.PUBLISHED, pageable)));
+    }
+
+    /**
+     * 상세 ETag (게시글이 없으면 null)
+     */
+    @Transactional(readOnly = true)
+    public String getPostETag(Long id) {
+        return postRepository.findVersionByIdAndStatus(id, Post.Status.PUBLISHED)
+                .map(PostETags::of)
+                .orElse(null);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorResponse<PostListResponse> getPostsByCursor(String cursor, int size) {
+        PostCursor position = PostCursor.decode(cursor);
+        return toCursorResponse(postRepository.findListByStatusBefore(Post.Status.PUBLISHED,
+                position.createdAt(), position.id(), PageRequest.of(0, size + 1)), size);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorResponse<PostListResponse> getPostsByCategoryByCursor(String category, String cursor, int size) {
+        PostCursor position = PostCursor.decode(cursor);
+        return toCursorResponse(postRepository.findListByCategoryAndStatusBefore(category, Post.Status.PUBLISHED,
+                position.createdAt(), position.id(), PageRequest.of(0, size + 1)), size);
+    }
+
+    /**
+     * @param viewerKey 고유 조회자 집계용 키 (사용자 ID 또는 클라이언트 IP)
+     */
+    @Transactional(readOnly = true)
+    public PostResponse getPost(Long id, String viewerKey) {
         Post post = postRepository.findByIdAndStatus(id, Post.Status.PUBLISHED)
                 .orElseThrow(() -> new ResourceNotFoundException("Post not found with id: " + id));
 
-        postRepository.incrementViewCount(id);
-        return PostResponse.from(post);
+        // 조회수는 메모리에 모았다가 주기적으로 반영 (PostViewCounter)
+        postViewCounter.increment(id);
+
+        // 본문은 별도 테이블에서 상세 조회 시에만 읽는다
+        String content = postBodyRepository.findById(id).map(PostBody::getText).orElse("");
+
+        PostResponse response = PostResponse.from(post, content);
+        response.setViewCount(post.getViewCount() + (int) postViewCounter.getPending(id));
+        response.setUniqueViewCount(postUniqueViewCounter.record(id, viewerKey));
+
+        PostListResponse summary = PostListResponse.from(post);
+        summary.setViewCount(response.getViewCount());
+        postTrendingService.recordView(summary);
+        return response;
+    }
+
+    /**
+     * 최근 조회가 많은 게시글 (시간 감쇠 점수 순, 메모리에서 바로 응답)
+     */
+    public List<PostListResponse> getTrendingPosts(int size) {
+        return postTrendingService.getTrending(size);
     }
 
     @Transactional
-    public Long updatePost(Long id, String username, PostRequest requestDto, List<MultipartFile> newImages) {
+    public Long updatePost(Long id, String username, PostRequest requestDto, List<StoredUpload> newImages) {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Post not found with id: " + id));
 
@@ -96,19 +191,18 @@ public class PostService {
         }
 
         post.setTitle(requestDto.getTitle());
-        post.setContent(requestDto.getContent());
+        updateBody(post, requestDto.getContent());
         post.setCategory(requestDto.getCategory());
         post.setStatus(requestDto.getStatus());
 
         // Add new images if provided
         if (newImages != null && !newImages.isEmpty()) {
-            for (MultipartFile image : newImages) {
-                if (!image.isEmpty()) {
-                    savePostImage(post, image);
-                }
+            for (StoredUpload image : newImages) {
+                savePostImage(post, image);
             }
         }
 
+        eventPublisher.publishEvent(new PostChangedEvent(id));
         return postRepository.save(post).getId();
     }
 
@@ -122,12 +216,14 @@ public class PostService {
             throw new AccessDeniedException("You are not authorized to delete this post");
         }
 
-        // Delete associated image files
+        // Schedule image file deletion (files shared with other images are kept)
         for (PostImage image : post.getImages()) {
-            fileStorageService.deleteFile(image.getImageUrl());
+            image.getStoredFiles().forEach(fileStorageService::deleteFile);
         }
 
+        postBodyRepository.deleteByPostId(id);
         postRepository.delete(post);
+        eventPublisher.publishEvent(new PostChangedEvent(id));
     }
 
     @Transactional
@@ -145,18 +241,66 @@ public class PostService {
                 .findFirst()
                 .orElseThrow(() -> new ResourceNotFoundException("Image not found with id: " + imageId));
 
-        // Delete file from storage
-        fileStorageService.deleteFile(postImage.getImageUrl());
+        // Schedule file deletion (files shared with other images are kept)
+        postImage.getStoredFiles().forEach(fileStorageService::deleteFile);
 
         // Remove from post and delete from repository
         post.getImages().remove(postImage);
         postImageRepository.delete(postImage);
+
+        // 목록 썸네일이 바뀌므로 첫 페이지 캐시/인기 목록 요약 갱신
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
     }
 
+    /**
+     * 검색 색인(BM25 관련도 순)으로 검색하고, 색인을 쓸 수 없으면 LIKE 검색으로 대체
+     */
     @Transactional(readOnly = true)
     public Page<PostListResponse> searchPosts(String keyword, Pageable pageable) {
-        Page<Post> posts = postRepository.searchByKeyword(keyword, Post.Status.PUBLISHED, pageable);
-        return posts.map(PostListResponse::from);
+        Optional<PostSearchIndex.SearchResult> result =
+                postSearchIndex.search(keyword, pageable.getOffset(), pageable.getPageSize());
+        if (result.isEmpty()) {
+            return postRepository.searchListByKeyword(keyword, Post.Status.PUBLISHED, pageable)
+                    .map(this::applyPendingViews);
+        }
+
+        List<Long> postIds = result.get().postIds();
+        Map<Long, PostListResponse> rows = postIds.isEmpty() ? Map.of()
+                : postRepository.findListByIdInAndStatus(postIds, Post.Status.PUBLISHED).stream()
+                .collect(Collectors.toMap(PostListResponse::getId, Function.identity()));
+
+        List<PostListResponse> content = postIds.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .map(this::applyPendingViews)
+                .collect(Collectors.toList());
+        content.forEach(row -> row.setSnippet(postSearchIndex.snippet(row.getId(), keyword)));
+
+        return new PageImpl<>(content, pageable, result.get().totalHits());
+    }
+
+    /**
+     * 커서 검색 (최신순). 색인을 쓸 수 없으면 LIKE 검색으로 대체
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<PostListResponse> searchPostsByCursor(String keyword, String cursor, int size) {
+        PostCursor position = PostCursor.decode(cursor);
+        Optional<List<Long>> postIds =
+                postSearchIndex.searchBefore(keyword, position.createdAt(), position.id(), size + 1);
+        if (postIds.isEmpty()) {
+            return toCursorResponse(postRepository.searchListByKeywordBefore(keyword, Post.Status.PUBLISHED,
+                    position.createdAt(), position.id(), PageRequest.of(0, size + 1)), size);
+        }
+
+        Map<Long, PostListResponse> rows = postIds.get().isEmpty() ? Map.of()
+                : postRepository.findListByIdInAndStatus(postIds.get(), Post.Status.PUBLISHED).stream()
+                .collect(Collectors.toMap(PostListResponse::getId, Function.identity()));
+        CursorResponse<PostListResponse> response = toCursorResponse(postIds.get().stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()), size);
+        response.getContent().forEach(row -> row.setSnippet(postSearchIndex.snippet(row.getId(), keyword)));
+        return response;
     }
 
     @Transactional(readOnly = true)
@@ -166,7 +310,9 @@ public class PostService {
 
     @Transactional
     public Post save(Post post) {
-        return postRepository.save(post);
+        Post saved = postRepository.save(post);
+        eventPublisher.publishEvent(new PostChangedEvent(saved.getId()));
+        return saved;
     }
 
     @Transactional
@@ -175,16 +321,31 @@ public class PostService {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Post not found with id: " + id));
 
-        // Delete associated image files
+        // Schedule image file deletion (files shared with other images are kept)
         for (PostImage image : post.getImages()) {
-            fileStorageService.deleteFile(image.getImageUrl());
+            image.getStoredFiles().forEach(fileStorageService::deleteFile);
         }
 
+        postBodyRepository.deleteByPostId(id);
         postRepository.deleteById(id);
+        eventPublisher.publishEvent(new PostChangedEvent(id));
+    }
+
+    /**
+     * 업로드 본문을 읽기 전에 권한 확인 (남의 게시글이면 파일을 저장하지 않고 거절)
+     */
+    @Transactional(readOnly = true)
+    public void checkImageUploadAllowed(Long postId, String username) {
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new ResourceNotFoundException("Post not found with id: " + postId));
+
+        if (!post.getUser().getUsername().equals(username)) {
+            throw new AccessDeniedException("You are not authorized to add images to this post");
+        }
     }
 
     @Transactional
-    public List<PostImageResponse> addImagesToPost(Long postId, String username, List<MultipartFile> images) {
+    public List<PostImageResponse> addImagesToPost(Long postId, String username, List<StoredUpload> images) {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new ResourceNotFoundException("Post not found with id: " + postId));
 
@@ -194,27 +355,75 @@ public class PostService {
         }
 
         List<PostImage> savedImages = images.stream()
-                .filter(file -> !file.isEmpty())
                 .map(file -> savePostImage(post, file))
                 .collect(Collectors.toList());
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
 
         return savedImages.stream()
                 .map(PostImageResponse::from)
                 .collect(Collectors.toList());
     }
 
-    private PostImage savePostImage(Post post, MultipartFile file) {
-        String storedFileName = fileStorageService.storeFile(file);
+    /**
+     * size + 1개를 조회한 결과로 다음 페이지 여부와 다음 커서를 만든다
+     */
+    private CursorResponse<PostListResponse> toCursorResponse(List<PostListResponse> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<PostListResponse> content = (hasNext ? rows.subList(0, size) : rows).stream()
+                .map(this::applyPendingViews)
+                .collect(Collectors.toList());
+        String nextCursor = hasNext ? PostCursor.of(content.get(content.size() - 1)).encode() : null;
+        return CursorResponse.of(content, size, nextCursor);
+    }
+
+    /**
+     * 캐시된 첫 페이지에 캐시 이후 반영된 조회수와 아직 반영되지 않은 조회수를 더한다 (캐시 값은 공유되므로 복사본에)
+     */
+    private Page<PostListResponse> withViewCounts(PostFirstPageCache.FirstPage firstPage) {
+        return firstPage.page().map(row -> applyPendingViews(row.toBuilder()
+                .viewCount(row.getViewCount() + (int) firstPage.flushedViews(row.getId()))
+                .build()));
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수를 더한다
+     */
+    private PostListResponse applyPendingViews(PostListResponse response) {
+        long pendingViews = postViewCounter.getPending(response.getId());
+        if (pendingViews > 0) {
+            response.setViewCount(response.getViewCount() + (int) pendingViews);
+        }
+        return response;
+    }
+
+    private void updateBody(Post post, String content) {
+        PostBody body = postBodyRepository.findById(post.getId()).orElse(null);
+        if (body == null) {
+            postBodyRepository.save(new PostBody(post, content, bodyCompressionThreshold));
+        } else if (!body.getText().equals(content)) {
+            body.setText(content, bodyCompressionThreshold);
+        } else {
+            return;
+        }
+        post.markBodyUpdated();
+    }
+
+    private PostImage savePostImage(Post post, StoredUpload file) {
+        String storedFileName = file.fileName();
 
         PostImage postImage = PostImage.builder()
                 .post(post)
                 .imageUrl(storedFileName)
-                .fileName(file.getOriginalFilename())
-                .fileType(file.getContentType())
-                .fileSize(file.getSize())
+                .fileName(file.originalFileName())
+                .fileType(file.contentType())
+                .fileSize(file.size())
                 .build();
 
         post.addImage(postImage);
-        return postImageRepository.save(postImage);
+        PostImage saved = postImageRepository.save(postImage);
+
+        // 커밋 후 축소본 생성 (PostImageVariantService)
+        eventPublisher.publishEvent(new PostImageStoredEvent(saved.getId(), post.getId(), storedFileName));
+        return saved;
     }
 }
\ No newline at end of file
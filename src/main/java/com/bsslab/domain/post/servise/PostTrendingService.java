@@ -0,0 +1,244 @@
+package com.bsslab.domain.post.service;
+
+import com.bsslab.domain.post.dto.PostListResponse;
+import com.bsslab.domain.post.entity.Post;
+import com.bsslab.domain.post.event.PostChangedEvent;
+import com.bsslab.domain.post.event.PostsChangedEvent;
+import com.bsslab.domain.post.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 시간 감쇠 조회수 기반 인기 게시글 순위 (메모리)
+ *
+ * forward decay: 조회 한 번에 exp(λ·(t - t0))를 더하므로 점수 간 순서가 시간이 지나도 바뀌지 않는다.
+ * 따라서 조회 시 해당 게시글 하나만 갱신하면 되고, 읽기는 정렬된 집합의 앞 k개만 본다 (DB 조회 없음).
+ * 값이 매우 커지므로 로그값으로 보관한다.
+ *
+ * 노드별 증가분은 주기적으로 DB에 더해(체크포인트) 합치고, 합쳐진 상위 점수를 다시 읽어 온다.
+ */
+@Service
+@Slf4j
+public class PostTrendingService {
+
+    // 감쇠 기준 시각 (고정값이어야 재시작/노드 간 점수를 비교할 수 있다)
+    private static final Instant EPOCH = Instant.parse("2024-01-01T00:00:00Z");
+    private static final double NO_SCORE = Double.NEGATIVE_INFINITY;
+
+    private static final String UPSERT_SQL = "INSERT INTO post_trending_scores (post_id, log_score, updated_at) " +
+            "VALUES (?, ?, NOW()) ON DUPLICATE KEY UPDATE " +
+            "log_score = GREATEST(log_score, VALUES(log_score)) + LN(1 + EXP(-ABS(log_score - VALUES(log_score)))), " +
+            "updated_at = NOW()";
+    private static final String SELECT_TOP_SQL =
+            "SELECT post_id, log_score FROM post_trending_scores ORDER BY log_score DESC LIMIT ?";
+    private static final String PRUNE_SQL = "DELETE FROM post_trending_scores WHERE log_score < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PostRepository postRepository;
+    private final double decayRatePerMilli;
+    private final int maxTracked;
+
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Ranked> ranking = new ConcurrentSkipListSet<>();
+
+    public PostTrendingService(JdbcTemplate jdbcTemplate,
+                               PostRepository postRepository,
+                               @Value("${post.trending.half-life:24h}") Duration halfLife,
+                               @Value("${post.trending.max-tracked:10000}") int maxTracked) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.postRepository = postRepository;
+        this.decayRatePerMilli = Math.log(2) / halfLife.toMillis();
+        this.maxTracked = maxTracked;
+    }
+
+    /**
+     * 게시글 조회 반영
+     *
+     * @param summary 조회한 게시글의 목록용 요약 (인기 목록 응답에 그대로 사용)
+     */
+    public void recordView(PostListResponse summary) {
+        double weight = decayRatePerMilli * (System.currentTimeMillis() - EPOCH.toEpochMilli());
+        entries.compute(summary.getId(), (postId, entry) -> {
+            Entry current = entry != null ? entry : new Entry();
+            updateScore(postId, current, logAdd(current.logScore, weight));
+            current.pendingLogDelta = logAdd(current.pendingLogDelta, weight);
+            current.summary = summary.toBuilder().build();
+            return current;
+        });
+    }
+
+    /**
+     * 인기 게시글 상위 size개 (공개 상태가 확인된 게시글만)
+     */
+    public List<PostListResponse> getTrending(int size) {
+        List<PostListResponse> trending = new ArrayList<>(size);
+        for (Ranked ranked : ranking) {
+            if (trending.size() >= size) {
+                break;
+            }
+            Entry entry = entries.get(ranked.postId());
+            PostListResponse summary = entry != null ? entry.summary : null;
+            if (summary != null) {
+                trending.add(summary.toBuilder().build());
+            }
+        }
+        return trending;
+    }
+
+    /**
+     * 수정/삭제/상태 변경된 게시글은 다음 조회나 체크포인트에서 공개 여부를 확인할 때까지 목록에서 제외
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        entries.computeIfPresent(event.getPostId(), (postId, entry) -> {
+            entry.summary = null;
+            return entry;
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostsChanged(PostsChangedEvent event) {
+        event.getPostIds().forEach(postId -> onPostChanged(new PostChangedEvent(postId)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("Failed to load trending scores: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 로컬 증가분을 DB에 더하고, 합쳐진 상위 점수를 다시 읽어 온다
+     */
+    @Scheduled(fixedDelayString = "${post.trending.checkpoint-interval:60000}")
+    public synchronized void checkpoint() {
+        List<Object[]> batchArgs = new ArrayList<>();
+        entries.forEach((postId, ignored) -> entries.computeIfPresent(postId, (id, entry) -> {
+            if (entry.pendingLogDelta != NO_SCORE) {
+                batchArgs.add(new Object[]{id, entry.pendingLogDelta});
+                entry.pendingLogDelta = NO_SCORE;
+            }
+            return entry;
+        }));
+
+        try {
+            if (!batchArgs.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, batchArgs);
+            }
+            reload();
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도
+            batchArgs.forEach(args -> entries.computeIfPresent((Long) args[0], (id, entry) -> {
+                entry.pendingLogDelta = logAdd(entry.pendingLogDelta, (Double) args[1]);
+                return entry;
+            }));
+            log.warn("Failed to checkpoint {} trending scores: {}", batchArgs.size(), e.getMessage());
+        }
+    }
+
+    private void reload() {
+        Map<Long, Double> stored = new LinkedHashMap<>();
+        jdbcTemplate.query(SELECT_TOP_SQL,
+                rs -> {
+                    stored.put(rs.getLong("post_id"), rs.getDouble("log_score"));
+                },
+                maxTracked);
+
+        // DB 점수 + 아직 체크포인트하지 않은 로컬 증가분
+        stored.forEach((postId, logScore) -> entries.compute(postId, (id, entry) -> {
+            Entry current = entry != null ? entry : new Entry();
+            updateScore(id, current, logAdd(logScore, current.pendingLogDelta));
+            return current;
+        }));
+
+        // 요약이 없는 게시글은 공개 게시글만 다시 채운다
+        List<Long> missing = entries.entrySet().stream()
+                .filter(e -> e.getValue().summary == null)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            Map<Long, PostListResponse> summaries = postRepository.findListByIdInAndStatus(missing, Post.Status.PUBLISHED)
+                    .stream()
+                    .collect(Collectors.toMap(PostListResponse::getId, Function.identity()));
+            summaries.forEach((postId, summary) -> entries.computeIfPresent(postId, (id, entry) -> {
+                if (entry.summary == null) {
+                    entry.summary = summary;
+                }
+                return entry;
+            }));
+        }
+
+        evictOverflow();
+        if (stored.size() >= maxTracked) {
+            jdbcTemplate.update(PRUNE_SQL, new ArrayList<>(stored.values()).get(stored.size() - 1));
+        }
+    }
+
+    // 추적 개수를 넘으면 점수가 가장 낮은 게시글부터 제외 (체크포인트하지 않은 증가분이 있으면 유지)
+    private void evictOverflow() {
+        Iterator<Ranked> lowestFirst = ranking.descendingIterator();
+        while (entries.size() > maxTracked && lowestFirst.hasNext()) {
+            Ranked ranked = lowestFirst.next();
+            entries.computeIfPresent(ranked.postId(), (postId, entry) -> {
+                if (entry.pendingLogDelta != NO_SCORE) {
+                    return entry;
+                }
+                ranking.remove(new Ranked(entry.logScore, postId));
+                return null;
+            });
+        }
+    }
+
+    // entries.compute 안에서 호출 (게시글별로 직렬화됨)
+    private void updateScore(Long postId, Entry entry, double logScore) {
+        if (entry.logScore != NO_SCORE) {
+            ranking.remove(new Ranked(entry.logScore, postId));
+        }
+        entry.logScore = logScore;
+        ranking.add(new Ranked(logScore, postId));
+    }
+
+    // log(exp(a) + exp(b))
+    private static double logAdd(double a, double b) {
+        if (a == NO_SCORE) {
+            return b;
+        }
+        if (b == NO_SCORE) {
+            return a;
+        }
+        return Math.max(a, b) + Math.log1p(Math.exp(-Math.abs(a - b)));
+    }
+
+    private static final class Entry {
+        private double logScore = NO_SCORE;
+        private double pendingLogDelta = NO_SCORE;
+        private PostListResponse summary;
+    }
+
+    // 점수 내림차순, 같으면 ID 내림차순
+    private record Ranked(double logScore, long postId) implements Comparable<Ranked> {
+        @Override
+        public int compareTo(Ranked other) {
+            int byScore = Double.compare(other.logScore, logScore);
+            return byScore != 0 ? byScore : Long.compare(other.postId, postId);
+        }
+    }
+}
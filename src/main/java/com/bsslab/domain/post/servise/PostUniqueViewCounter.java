@@ -0,0 +1,190 @@
+package com.bsslab.domain.post.service;
+
+import com.bsslab.common.util.HyperLogLog;
+import com.bsslab.domain.post.event.PostChangedEvent;
+import com.bsslab.domain.post.event.PostsChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 고유 조회자 수 (HyperLogLog, 게시글당 최대 약 4KB)
+ *
+ * 조회자 키(사용자 ID 또는 클라이언트 IP)를 메모리 sketch에 반영하고, 주기적으로 DB의 sketch와 병합해 저장한다.
+ * 병합은 행 잠금 아래에서 이루어지므로 여러 노드의 조회자가 함께 집계된다.
+ * 게시글이 삭제되면 sketch 행도 지운다 (삭제된 게시글에는 새 행을 만들지 않음).
+ */
+@Component
+@Slf4j
+public class PostUniqueViewCounter {
+
+    // 레지스터 4096개, 표준 오차 약 1.6%
+    private static final int PRECISION = 12;
+    private static final int FLUSH_CHUNK_SIZE = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // DB에 저장된 조회자 + 이 노드의 조회자 (조회수 응답용)
+    private final Cache<Long, HyperLogLog> sketches;
+    // 아직 DB에 병합하지 않은 이 노드의 조회자
+    private final ConcurrentHashMap<Long, HyperLogLog> pending = new ConcurrentHashMap<>();
+
+    public PostUniqueViewCounter(JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${post.unique-view.cache-size:10000}") long cacheSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.sketches = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .build();
+    }
+
+    /**
+     * 조회 반영
+     *
+     * @return 고유 조회자 수 추정값
+     */
+    public long record(Long postId, String viewerKey) {
+        pending.compute(postId, (id, sketch) -> {
+            HyperLogLog current = sketch != null ? sketch : new HyperLogLog(PRECISION);
+            current.offer(viewerKey);
+            return current;
+        });
+
+        HyperLogLog sketch = sketches.get(postId, this::load);
+        sketch.offer(viewerKey);
+        return sketch.estimate();
+    }
+
+    @Scheduled(fixedDelayString = "${post.unique-view.flush-interval:60000}")
+    public synchronized void flush() {
+        // id 순으로 잠가 여러 노드가 동시에 병합할 때 잠금 순서를 맞춘다
+        List<Long> postIds = new ArrayList<>(pending.keySet());
+        Collections.sort(postIds);
+
+        for (int from = 0; from < postIds.size(); from += FLUSH_CHUNK_SIZE) {
+            Map<Long, HyperLogLog> deltas = new TreeMap<>();
+            postIds.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, postIds.size()))
+                    .forEach(postId -> Optional.ofNullable(pending.remove(postId))
+                            .ifPresent(delta -> deltas.put(postId, delta)));
+
+            try {
+                Map<Long, HyperLogLog> stored = transactionTemplate.execute(status -> {
+                    Map<Long, HyperLogLog> merged = new HashMap<>();
+                    deltas.forEach((postId, delta) -> merged.put(postId, mergeIntoDb(postId, delta)));
+                    return merged;
+                });
+                // 다른 노드의 조회자도 응답에 반영
+                if (stored != null) {
+                    stored.forEach((postId, sketch) -> sketches.asMap().computeIfPresent(postId, (id, cached) -> {
+                        cached.merge(sketch);
+                        return cached;
+                    }));
+                }
+            } catch (Exception e) {
+                // 다음 주기에 다시 시도
+                deltas.forEach((postId, delta) -> pending.merge(postId, delta, (current, restored) -> {
+                    current.merge(restored);
+                    return current;
+                }));
+                log.warn("Failed to flush {} unique view sketches: {}", deltas.size(), e.getMessage());
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        removeDeleted(List.of(event.getPostId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostsChanged(PostsChangedEvent event) {
+        removeDeleted(event.getPostIds());
+    }
+
+    /**
+     * 변경된 게시글 중 더 이상 없는 게시글의 sketch 제거 (flush와 겹치지 않도록 같은 잠금 아래에서)
+     */
+    private synchronized void removeDeleted(List<Long> postIds) {
+        for (int from = 0; from < postIds.size(); from += FLUSH_CHUNK_SIZE) {
+            List<Long> chunk = postIds.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, postIds.size()));
+            try {
+                String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+                Set<Long> existing = new HashSet<>(jdbcTemplate.queryForList(
+                        "SELECT id FROM posts WHERE id IN (" + placeholders + ")", Long.class, chunk.toArray()));
+                List<Object[]> deleted = new ArrayList<>();
+                for (Long postId : chunk) {
+                    if (!existing.contains(postId)) {
+                        pending.remove(postId);
+                        sketches.invalidate(postId);
+                        deleted.add(new Object[]{postId});
+                    }
+                }
+                if (!deleted.isEmpty()) {
+                    jdbcTemplate.batchUpdate("DELETE FROM post_view_sketches WHERE post_id = ?", deleted);
+                }
+            } catch (Exception e) {
+                log.warn("Failed to remove unique view sketches of deleted posts: {}", e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private HyperLogLog mergeIntoDb(Long postId, HyperLogLog delta) {
+        byte[] deltaBytes = delta.toBytes();
+        // 삭제된 게시글(삭제 직전 조회분)에는 행을 만들지 않는다
+        int inserted = jdbcTemplate.update(
+                "INSERT IGNORE INTO post_view_sketches (post_id, sketch, updated_at) SELECT id, ?, NOW() FROM posts WHERE id = ?",
+                deltaBytes, postId);
+        if (inserted > 0) {
+            return delta;
+        }
+
+        byte[] storedBytes;
+        try {
+            storedBytes = jdbcTemplate.queryForObject(
+                    "SELECT sketch FROM post_view_sketches WHERE post_id = ? FOR UPDATE", byte[].class, postId);
+        } catch (EmptyResultDataAccessException e) {
+            return delta;
+        }
+        HyperLogLog merged = HyperLogLog.fromBytes(storedBytes);
+        merged.merge(delta);
+        jdbcTemplate.update("UPDATE post_view_sketches SET sketch = ?, updated_at = NOW() WHERE post_id = ?",
+                merged.toBytes(), postId);
+        return merged;
+    }
+
+    private HyperLogLog load(Long postId) {
+        HyperLogLog sketch;
+        try {
+            byte[] bytes = jdbcTemplate.queryForObject(
+                    "SELECT sketch FROM post_view_sketches WHERE post_id = ?", byte[].class, postId);
+            sketch = HyperLogLog.fromBytes(bytes);
+        } catch (EmptyResultDataAccessException e) {
+            sketch = new HyperLogLog(PRECISION);
+        }
+
+        HyperLogLog unsaved = pending.get(postId);
+        if (unsaved != null) {
+            sketch.merge(unsaved);
+        }
+        return sketch;
+    }
+}
@@ -0,0 +1,101 @@
+package com.bsslab.domain.post.service;
+
+import com.bsslab.domain.post.event.PostViewsFlushedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 write-behind 카운터
+ *
+ * 조회할 때마다 posts 행을 UPDATE(행 잠금)하지 않고 메모리의 LongAdder에 모았다가
+ * 주기적으로 한 번의 batch UPDATE로 반영한다. 종료 시에도 남은 증가분을 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostViewCounter {
+
+    private static final String FLUSH_SQL = "UPDATE posts SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public void increment(Long postId) {
+        // 증가와 flush의 제거가 같은 맵 버킷 잠금으로 직렬화되도록 compute 안에서 더한다
+        pending.compute(postId, (id, adder) -> {
+            if (adder == null) {
+                adder = new LongAdder();
+            }
+            adder.increment();
+            return adder;
+        });
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     */
+    public long getPending(Long postId) {
+        LongAdder adder = pending.get(postId);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    @Scheduled(fixedDelayString = "${post.view-count.flush-interval:5000}")
+    public synchronized void flush() {
+        // id 순으로 갱신해 여러 노드가 동시에 반영할 때 잠금 순서를 맞춘다
+        Map<Long, Long> deltas = new TreeMap<>();
+        pending.forEach((postId, adder) -> {
+            long delta = adder.sum();
+            if (delta > 0) {
+                // sumThenReset()은 그 사이의 증가분을 잃을 수 있으므로 읽은 만큼만 뺀다
+                adder.add(-delta);
+                deltas.put(postId, delta);
+            } else {
+                // 한 주기 동안 조회가 없던 카운터는 제거 (잠금 안에서 다시 확인해 그 사이의 증가분은 남긴다)
+                pending.computeIfPresent(postId, (id, current) -> current.sum() == 0 ? null : current);
+            }
+        });
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        deltas.forEach((postId, delta) -> batchArgs.add(new Object[]{delta, postId}));
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도
+            deltas.forEach((postId, delta) -> pending.compute(postId, (id, adder) -> {
+                if (adder == null) {
+                    adder = new LongAdder();
+                }
+                adder.add(delta);
+                return adder;
+            }));
+            log.warn("Failed to flush {} post view counts: {}", deltas.size(), e.getMessage());
+            return;
+        }
+        // 반영 전 조회수를 들고 있는 캐시가 (대기 중 조회수가 0이 되어) 뒤로 가지 않도록 알린다
+        eventPublisher.publishEvent(new PostViewsFlushedEvent(Map.copyOf(deltas)));
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
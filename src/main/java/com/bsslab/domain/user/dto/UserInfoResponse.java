@@ -1,6 +1,5 @@
 package com.bsslab.domain.user.dto;
 
-import com.bsslab.domain.user.entity.User;
 import com.bsslab.domain.user.entity.UserProfile;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -32,7 +31,7 @@ public class UserInfoResponse {
     @Schema(description = "자기소개", example = "안녕하세요. BSS-Lab에서 백엔드 개발을 담당하고 있는 개발자입니다.")
     private String bio;
 
-    public static UserInfoResponse from(User user, UserProfile profile) {
+    public static UserInfoResponse from(UserSnapshot user, UserProfile profile) {
         return UserInfoResponse.builder()
                 .id(user.getId())
                 .username(user.getUsername())
@@ -0,0 +1,34 @@
+package com.bsslab.domain.user.dto;
+
+import com.bsslab.domain.user.entity.User;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 캐시에 보관하는 사용자 정보 (불변)
+ *
+ * 엔티티를 스레드 간에 공유하지 않도록 필요한 컬럼만 복사해 둔다.
+ */
+@Getter
+@Builder
+public class UserSnapshot {
+    private final Long id;
+    private final String username;
+    private final String email;
+    private final String password;
+    private final User.Role role;
+    private final User.Status status;
+    private final long securityVersion;
+
+    public static UserSnapshot from(User user) {
+        return UserSnapshot.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .email(user.getEmail())
+                .password(user.getPassword())
+                .role(user.getRole())
+                .status(user.getStatus())
+                .securityVersion(user.getSecurityVersion() != null ? user.getSecurityVersion() : 0L)
+                .build();
+    }
+}
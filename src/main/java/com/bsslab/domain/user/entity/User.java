@@ -2,13 +2,17 @@ package com.bsslab.domain.user.entity;
 
 import com.bsslab.common.entity.BaseTimeEntity;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.util.Objects;
+
 @Entity
 @Table(name = "users")
+@EntityListeners(UserEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -35,6 +39,14 @@ public class User extends BaseTimeEntity {
     @Column(nullable = false)
     private Status status;
 
+    /**
+     * 역할/상태/비밀번호가 바뀔 때마다 증가하는 보안 버전
+     * JWT에 함께 담기며, 토큰의 버전이 뒤처지면 필터가 DB에서 권한을 다시 읽는다.
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "security_version", nullable = false, columnDefinition = "bigint default 0")
+    private Long securityVersion = 0L;
+
     @Builder
     public User(String username, String email, String password, Role role, Status status) {
         this.username = username;
@@ -44,6 +56,38 @@ public class User extends BaseTimeEntity {
         this.status = status;
     }
 
+    public void setPassword(String password) {
+        if (this.password != null && !Objects.equals(this.password, password)) {
+            bumpSecurityVersion();
+        }
+        this.password = password;
+    }
+
+    /**
+     * 같은 비밀번호를 다른 비용으로 다시 해시한 값으로 교체 (보안 버전은 올리지 않음)
+     */
+    public void rehashPassword(String password) {
+        this.password = password;
+    }
+
+    public void setRole(Role role) {
+        if (this.role != null && this.role != role) {
+            bumpSecurityVersion();
+        }
+        this.role = role;
+    }
+
+    public void setStatus(Status status) {
+        if (this.status != null && this.status != status) {
+            bumpSecurityVersion();
+        }
+        this.status = status;
+    }
+
+    private void bumpSecurityVersion() {
+        this.securityVersion = (this.securityVersion != null ? this.securityVersion : 0L) + 1;
+    }
+
     public enum Role {
         ROLE_ADMIN, ROLE_USER
     }
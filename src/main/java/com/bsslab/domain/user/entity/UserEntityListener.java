@@ -0,0 +1,28 @@
+package com.bsslab.domain.user.entity;
+
+import com.bsslab.domain.user.event.UserChangedEvent;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * User 엔티티가 변경될 때 UserChangedEvent 발행
+ *
+ * 역할/상태/비밀번호가 어떤 경로로 바뀌든 캐시와 보안 버전 테이블이 함께 갱신되도록
+ * 서비스 코드가 아닌 엔티티 수명주기에서 이벤트를 보낸다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        long securityVersion = user.getSecurityVersion() != null ? user.getSecurityVersion() : 0L;
+        eventPublisher.publishEvent(new UserChangedEvent(user.getUsername(), securityVersion));
+    }
+}
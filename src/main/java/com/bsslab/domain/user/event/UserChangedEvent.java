@@ -0,0 +1,14 @@
+package com.bsslab.domain.user.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 정보가 변경/삭제되었음을 알리는 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserChangedEvent {
+    private final String username;
+    private final long securityVersion;
+}
@@ -1,9 +1,14 @@
 package com.bsslab.domain.user.repository;
 
 import com.bsslab.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +17,23 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
+
+    @Query("SELECT u.username AS username, u.securityVersion AS securityVersion FROM User u " +
+            "WHERE u.updatedAt >= :since AND u.securityVersion > 0")
+    List<SecurityVersionView> findSecurityVersionsUpdatedSince(@Param("since") LocalDateTime since);
+
+    @Query("SELECT u.id AS id, u.username AS username, u.email AS email FROM User u " +
+            "WHERE u.id > :afterId ORDER BY u.id")
+    List<UserIdentifierView> findIdentifiersAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    interface SecurityVersionView {
+        String getUsername();
+        Long getSecurityVersion();
+    }
+
+    interface UserIdentifierView {
+        Long getId();
+        String getUsername();
+        String getEmail();
+    }
 }
\ No newline at end of file
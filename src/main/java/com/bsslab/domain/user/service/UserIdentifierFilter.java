@@ -0,0 +1,84 @@
+package com.bsslab.domain.user.service;
+
+import com.bsslab.common.util.BloomFilter;
+import com.bsslab.domain.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 이미 사용 중인 username/email의 Bloom filter
+ *
+ * false면 확실히 새 값이므로 회원가입 시 중복 조회를 생략할 수 있다.
+ * 시작 시 DB로 채우기 전이나 다른 노드에서 가입한 값은 알 수 없으므로,
+ * 최종적인 중복 판단은 users 테이블의 unique 제약이 담당한다.
+ */
+@Component
+@Slf4j
+public class UserIdentifierFilter {
+
+    private static final int SEED_BATCH_SIZE = 5_000;
+
+    private final UserRepository userRepository;
+    private final BloomFilter usernames;
+    private final BloomFilter emails;
+
+    private volatile boolean ready = false;
+
+    public UserIdentifierFilter(UserRepository userRepository,
+                                @Value("${user.identifier-filter.expected-insertions:1000000}") long expectedInsertions,
+                                @Value("${user.identifier-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.usernames = new BloomFilter(expectedInsertions, falsePositiveRate);
+        this.emails = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * 기존 사용자로 필터를 채운다 (id 순서로 나누어 조회)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        try {
+            long lastId = 0;
+            long count = 0;
+            List<UserRepository.UserIdentifierView> batch;
+            do {
+                batch = userRepository.findIdentifiersAfter(lastId, PageRequest.of(0, SEED_BATCH_SIZE));
+                for (UserRepository.UserIdentifierView user : batch) {
+                    add(user.getUsername(), user.getEmail());
+                    lastId = user.getId();
+                }
+                count += batch.size();
+            } while (batch.size() == SEED_BATCH_SIZE);
+
+            ready = true;
+            log.info("User identifier filter seeded with {} users", count);
+        } catch (Exception e) {
+            log.warn("Failed to seed user identifier filter, signup will always check the database: {}", e.getMessage());
+        }
+    }
+
+    public void add(String username, String email) {
+        usernames.put(normalize(username));
+        emails.put(normalize(email));
+    }
+
+    public boolean mightContainUsername(String username) {
+        return !ready || usernames.mightContain(normalize(username));
+    }
+
+    public boolean mightContainEmail(String email) {
+        return !ready || emails.mightContain(normalize(email));
+    }
+
+    // DB collation이 대소문자를 구분하지 않으므로 소문자로 맞춘다 (대소문자만 다른 값은 양성으로 판정)
+    private String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,70 @@
+package com.bsslab.domain.user.service;
+
+import com.bsslab.domain.user.dto.UserSnapshot;
+import com.bsslab.domain.user.event.UserChangedEvent;
+import com.bsslab.domain.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * username으로 사용자를 조회하는 캐시 계층
+ *
+ * 한 요청 안에서, 그리고 요청 사이에서 같은 사용자 행을 반복 조회하지 않도록
+ * 크기/TTL 제한이 있는 메모리 캐시를 둔다. 존재하지 않는 사용자는 캐시하지 않는다.
+ */
+@Service
+public class UserLookupService {
+
+    private final UserRepository userRepository;
+    private final Cache<String, UserSnapshot> cache;
+
+    public UserLookupService(UserRepository userRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${user.cache.max-size:10000}") long maxSize,
+                             @Value("${user.cache.ttl:10m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "users");
+    }
+
+    public Optional<UserSnapshot> findByUsername(String username) {
+        return Optional.ofNullable(cache.get(username, this::load));
+    }
+
+    public UserSnapshot getByUsername(String username) {
+        return findByUsername(username)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
+    }
+
+    public void evict(String username) {
+        cache.invalidate(username);
+    }
+
+    /**
+     * 역할/상태/비밀번호 등 사용자 정보가 바뀌면 커밋 후 캐시에서 제거
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.getUsername());
+    }
+
+    private UserSnapshot load(String username) {
+        return userRepository.findByUsername(username)
+                .map(UserSnapshot::from)
+                .orElse(null);
+    }
+}
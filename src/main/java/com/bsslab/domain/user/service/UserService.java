@@ -2,13 +2,11 @@ package com.bsslab.domain.user.service;
 
 import com.bsslab.domain.user.dto.UpdateProfileRequest;
 import com.bsslab.domain.user.dto.UserInfoResponse;
-import com.bsslab.domain.user.entity.User;
+import com.bsslab.domain.user.dto.UserSnapshot;
 import com.bsslab.domain.user.entity.UserProfile;
 import com.bsslab.domain.user.repository.UserProfileRepository;
-import com.bsslab.domain.user.repository.UserRepository;
 import com.bsslab.global.exception.GlobalExceptionHandler.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,15 +14,14 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class UserService {
 
-    private final UserRepository userRepository;
+    private final UserLookupService userLookupService;
     private final UserProfileRepository userProfileRepository;
 
     @Transactional(readOnly = true)
     public UserInfoResponse getUserInfo(String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
+        UserSnapshot user = userLookupService.getByUsername(username);
 
-        UserProfile profile = userProfileRepository.findByUser(user)
+        UserProfile profile = userProfileRepository.findByUserId(user.getId())
                 .orElse(null);
 
         return UserInfoResponse.from(user, profile);
@@ -32,10 +29,9 @@ public class UserService {
 
     @Transactional
     public void updateProfile(String username, UpdateProfileRequest request) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
+        UserSnapshot user = userLookupService.getByUsername(username);
 
-        UserProfile profile = userProfileRepository.findByUser(user)
+        UserProfile profile = userProfileRepository.findByUserId(user.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Profile not found for user: " + username));
 
         profile.setBio(request.getBio());
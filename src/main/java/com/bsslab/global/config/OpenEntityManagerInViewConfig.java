@@ -0,0 +1,29 @@
+package com.bsslab.global.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Open EntityManager in View를 인증 API만 빼고 적용 (spring.jpa.open-in-view=false로 기본 등록은 끈다)
+ *
+ * OSIV 요청은 처음 사용한 DB 커넥션을 요청이 끝날 때까지 잡고 있다.
+ * 로그인/가입은 비밀번호 해시 대기/계산이 길어 커넥션 풀을 소진시킬 수 있으므로 제외한다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class OpenEntityManagerInViewConfig implements WebMvcConfigurer {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        OpenEntityManagerInViewInterceptor interceptor = new OpenEntityManagerInViewInterceptor();
+        interceptor.setEntityManagerFactory(entityManagerFactory);
+        registry.addWebRequestInterceptor(interceptor)
+                .excludePathPatterns("/auth/**");
+    }
+}
@@ -1,6 +1,6 @@
 package com.bsslab.global.controller;
 
-import com.bsslab.global.service.FileStorageService;
+import com.bsslab.global.service.FileServingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -8,16 +8,13 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 
 @RestController
@@ -26,12 +23,13 @@ import java.io.IOException;
 @Tag(name = "파일", description = "업로드된 파일을 조회하는 API")
 public class FileController {
 
-    private final FileStorageService fileStorageService;
+    private final FileServingService fileServingService;
 
     @Operation(
             summary = "파일 조회/다운로드",
             description = "업로드된 파일을 조회하거나 다운로드합니다. 이미지 파일의 경우 브라우저에서 직접 표시됩니다. " +
-                    "파일 경로는 게시글 응답에 포함된 imageUrl 값을 사용합니다."
+                    "파일 경로는 게시글 응답에 포함된 imageUrl 값을 사용합니다. " +
+                    "파일 내용은 바뀌지 않으므로 immutable로 캐시되며, ETag(If-None-Match)와 Range 요청을 지원합니다."
     )
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -39,39 +37,33 @@ public class FileController {
                     description = "파일 조회 성공",
                     content = @Content(schema = @Schema(type = "string", format = "binary"))
             ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "206",
+                    description = "요청한 범위(Range)만 응답"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "304",
+                    description = "변경 없음 (If-None-Match가 현재 ETag와 일치)"
+            ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "404",
                     description = "파일을 찾을 수 없음"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "416",
+                    description = "요청한 범위가 파일 크기를 벗어남"
             )
     })
-    @GetMapping("/{fileName:.+}")
-    public ResponseEntity<Resource> downloadFile(
+    @GetMapping("/{*fileName}")
+    public void downloadFile(
             @Parameter(
                     description = "파일 경로 (게시글 응답의 imageUrl 필드에서 얻을 수 있음)",
                     example = "posts/abc123-def456.jpg"
             )
             @PathVariable String fileName,
-            HttpServletRequest request) {
-
-        // Load file as Resource
-        Resource resource = fileStorageService.loadFileAsResource(fileName);
-
-        // Try to determine file's content type
-        String contentType = null;
-        try {
-            contentType = request.getServletContext().getMimeType(resource.getFile().getAbsolutePath());
-        } catch (IOException ex) {
-            // logger.info("Could not determine file type.");
-        }
-
-        // Fallback to the default content type if type could not be determined
-        if (contentType == null) {
-            contentType = "application/octet-stream";
-        }
-
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(contentType))
-                .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + resource.getFilename() + "\"")
-                .body(resource);
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        // {*fileName}은 앞의 '/'를 포함한다 (posts/... 처럼 하위 경로가 있는 파일)
+        fileServingService.serve(fileName.startsWith("/") ? fileName.substring(1) : fileName, request, response);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,28 @@
+package com.bsslab.global.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 페이지 응답
+ * 전체 개수를 세지 않으며, 다음 페이지는 nextCursor로 요청한다.
+ */
+@Data
+@Builder
+public class CursorResponse<T> {
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public static <T> CursorResponse<T> of(List<T> content, int size, String nextCursor) {
+        return CursorResponse.<T>builder()
+                .content(content)
+                .size(size)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+}
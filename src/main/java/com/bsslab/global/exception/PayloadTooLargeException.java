@@ -0,0 +1,7 @@
+package com.bsslab.global.exception;
+
+public class PayloadTooLargeException extends RuntimeException {
+    public PayloadTooLargeException(String message) {
+        super(message);
+    }
+}
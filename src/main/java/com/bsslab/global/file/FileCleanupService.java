@@ -0,0 +1,102 @@
+package com.bsslab.global.file;
+
+import com.bsslab.global.service.FileStorageService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 업로드 파일 지연 삭제
+ *
+ * FileStorageService.deleteFile로 예약된 파일을 주기적으로 배치 단위로 처리한다.
+ * 파일은 내용 해시로 공유되므로, 아직 참조하는 곳이 있으면 지우지 않고 예약만 없앤다.
+ * 방금 저장(또는 중복 저장)된 파일은 참조 행이 아직 커밋되지 않았을 수 있어 유예 기간 동안 다음 주기로 미룬다.
+ * 확인과 삭제 사이에 같은 내용이 다시 올라올 수 있으므로, 파일을 옮겨 둔 뒤 한 번 더 확인하고 지운다.
+ * 실패한 파일은 다음 주기에 다시 시도한다.
+ */
+@Service
+@Slf4j
+public class FileCleanupService {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final PendingFileDeletionRepository pendingFileDeletionRepository;
+    private final FileStorageService fileStorageService;
+    private final List<FileReferenceCounter> referenceCounters;
+    private final Duration gracePeriod;
+
+    public FileCleanupService(PendingFileDeletionRepository pendingFileDeletionRepository,
+                              FileStorageService fileStorageService,
+                              List<FileReferenceCounter> referenceCounters,
+                              @Value("${file.cleanup-grace-period:10m}") Duration gracePeriod) {
+        this.pendingFileDeletionRepository = pendingFileDeletionRepository;
+        this.fileStorageService = fileStorageService;
+        this.referenceCounters = referenceCounters;
+        this.gracePeriod = gracePeriod;
+    }
+
+    @Scheduled(fixedDelayString = "${file.cleanup-interval:30000}")
+    public void cleanup() {
+        long afterId = 0;
+        int deleted = 0;
+        int retained = 0;
+        int failed = 0;
+        try {
+            List<PendingFileDeletion> batch;
+            do {
+                batch = pendingFileDeletionRepository.findAfter(afterId, PageRequest.of(0, BATCH_SIZE));
+                List<Long> done = new ArrayList<>(batch.size());
+                for (PendingFileDeletion pending : batch) {
+                    afterId = pending.getId();
+                    String fileName = pending.getFileName();
+                    try {
+                        if (isReferenced(fileName)) {
+                            retained++;
+                        } else if (isWithinGracePeriod(fileStorageService.getLastModifiedTime(fileName))) {
+                            continue;
+                        } else if (fileStorageService.purgeFile(fileName, lastModified ->
+                                !isWithinGracePeriod(lastModified) && !isReferenced(fileName))) {
+                            deleted++;
+                        } else {
+                            // 그 사이 다시 저장됨 (다음 주기에 참조를 다시 확인)
+                            continue;
+                        }
+                        done.add(pending.getId());
+                    } catch (Exception e) {
+                        failed++;
+                        log.warn("Failed to delete file {}: {}", fileName, e.getMessage());
+                    }
+                }
+                if (!done.isEmpty()) {
+                    pendingFileDeletionRepository.deleteByIdIn(done);
+                }
+            } while (batch.size() == BATCH_SIZE);
+        } catch (Exception e) {
+            log.warn("Failed to process pending file deletions: {}", e.getMessage());
+        }
+        if (deleted > 0 || retained > 0 || failed > 0) {
+            log.info("Deleted {} pending files ({} still referenced, {} failed)", deleted, retained, failed);
+        }
+    }
+
+    private boolean isReferenced(String fileName) {
+        for (FileReferenceCounter counter : referenceCounters) {
+            if (counter.countReferences(fileName) > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isWithinGracePeriod(FileTime lastModified) {
+        return lastModified != null
+                && lastModified.toMillis() > System.currentTimeMillis() - gracePeriod.toMillis();
+    }
+}
@@ -0,0 +1,10 @@
+package com.bsslab.global.file;
+
+/**
+ * 업로드 파일을 참조하는 곳의 수를 세는 도메인 측 구현
+ * 모든 구현의 합이 0인 파일만 FileCleanupService가 실제로 지운다.
+ */
+public interface FileReferenceCounter {
+
+    long countReferences(String fileName);
+}
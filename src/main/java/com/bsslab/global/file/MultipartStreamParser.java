@@ -0,0 +1,288 @@
+package com.bsslab.global.file;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * multipart/form-data 본문을 순서대로 읽는 파서
+ *
+ * 파트 전체를 메모리나 임시 파일에 모으지 않고, 현재 파트의 내용을 구분자 직전까지 스트림으로 돌려준다.
+ * 다음 파트로 넘어가면 읽지 않은 나머지는 버린다.
+ */
+class MultipartStreamParser {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+    private static final int MAX_HEADER_SIZE = 8 * 1024;
+    private static final int MAX_BOUNDARY_LENGTH = 70;
+
+    private final InputStream in;
+    // 파트 사이의 구분자 ("\r\n--" + boundary)
+    private final byte[] delimiter;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int head;
+    private int tail;
+    private boolean eof;
+    private boolean finished;
+    private PartInputStream current;
+
+    MultipartStreamParser(InputStream in, String boundary) {
+        this.in = in;
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        // 첫 구분자 앞에는 줄바꿈이 없으므로 넣어 두고 시작한다 (preamble을 빈 파트처럼 건너뜀)
+        buffer[0] = '\r';
+        buffer[1] = '\n';
+        tail = 2;
+        current = new PartInputStream();
+    }
+
+    /**
+     * Content-Type 헤더의 boundary 값. multipart/form-data가 아니거나 값이 잘못되면 null
+     */
+    static String extractBoundary(String contentType) {
+        if (contentType == null
+                || !contentType.toLowerCase(Locale.ROOT).startsWith("multipart/form-data")) {
+            return null;
+        }
+        for (String param : contentType.split(";")) {
+            String trimmed = param.trim();
+            if (trimmed.toLowerCase(Locale.ROOT).startsWith("boundary=")) {
+                String boundary = unquote(trimmed.substring("boundary=".length()));
+                return boundary.isEmpty() || boundary.length() > MAX_BOUNDARY_LENGTH ? null : boundary;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 다음 파트. 마지막 구분자까지 읽었으면 null
+     */
+    Part nextPart() throws IOException {
+        if (finished) {
+            return null;
+        }
+        current.skipRemaining();
+
+        int first = readByte();
+        int second = readByte();
+        if (first == '-' && second == '-') {
+            finished = true;
+            return null;
+        }
+        // 구분자 뒤의 공백(transport padding) 허용
+        while (first == ' ' || first == '\t') {
+            first = second;
+            second = readByte();
+        }
+        if (first != '\r' || second != '\n') {
+            throw new MalformedMultipartException("Malformed multipart boundary");
+        }
+
+        Part part = readHeaders();
+        current = new PartInputStream();
+        return new Part(part.name(), part.fileName(), part.contentType(), current);
+    }
+
+    private Part readHeaders() throws IOException {
+        ByteArrayOutputStream headerBytes = new ByteArrayOutputStream(256);
+        // 구분자 줄의 CRLF를 이미 읽은 상태로 시작 (헤더 없는 파트는 바로 빈 줄이 온다)
+        int matched = 2;
+        while (matched < 4) {
+            int b = readByte();
+            if (b < 0) {
+                throw new MalformedMultipartException("Unexpected end of multipart headers");
+            }
+            if (headerBytes.size() >= MAX_HEADER_SIZE) {
+                throw new MalformedMultipartException("Multipart headers too large");
+            }
+            headerBytes.write(b);
+            matched = (b == (matched % 2 == 0 ? '\r' : '\n')) ? matched + 1 : (b == '\r' ? 1 : 0);
+        }
+
+        String name = null;
+        String fileName = null;
+        String contentType = null;
+        // 브라우저는 파일 이름을 UTF-8 그대로 보낸다
+        for (String line : headerBytes.toString(StandardCharsets.UTF_8).split("\r\n")) {
+            int colon = line.indexOf(':');
+            if (colon < 0) {
+                continue;
+            }
+            String headerName = line.substring(0, colon).trim().toLowerCase(Locale.ROOT);
+            String value = line.substring(colon + 1).trim();
+            if (headerName.equals("content-disposition")) {
+                name = dispositionParam(value, "name");
+                fileName = dispositionParam(value, "filename");
+            } else if (headerName.equals("content-type")) {
+                contentType = value;
+            }
+        }
+        return new Part(name, fileName, contentType, null);
+    }
+
+    private static String dispositionParam(String disposition, String param) {
+        int index = 0;
+        while (index < disposition.length()) {
+            int semicolon = disposition.indexOf(';', index);
+            if (semicolon < 0) {
+                return null;
+            }
+            int start = semicolon + 1;
+            int equals = disposition.indexOf('=', start);
+            if (equals < 0) {
+                return null;
+            }
+            String key = disposition.substring(start, equals).trim();
+            int end;
+            String value;
+            if (equals + 1 < disposition.length() && disposition.charAt(equals + 1) == '"') {
+                // 따옴표 안의 ';'는 구분자가 아니다
+                StringBuilder sb = new StringBuilder();
+                end = equals + 2;
+                while (end < disposition.length() && disposition.charAt(end) != '"') {
+                    char c = disposition.charAt(end);
+                    if (c == '\\' && end + 1 < disposition.length()) {
+                        c = disposition.charAt(++end);
+                    }
+                    sb.append(c);
+                    end++;
+                }
+                value = sb.toString();
+                end++;
+            } else {
+                end = disposition.indexOf(';', equals);
+                if (end < 0) {
+                    end = disposition.length();
+                }
+                value = disposition.substring(equals + 1, end).trim();
+            }
+            if (key.equalsIgnoreCase(param)) {
+                return value;
+            }
+            index = end;
+        }
+        return null;
+    }
+
+    private static String unquote(String value) {
+        return value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")
+                ? value.substring(1, value.length() - 1)
+                : value;
+    }
+
+    private int readByte() throws IOException {
+        if (head == tail && !fill()) {
+            return -1;
+        }
+        return buffer[head++] & 0xff;
+    }
+
+    /**
+     * 읽은 데이터를 버퍼 앞으로 옮기고 더 읽는다. 더 읽을 수 없으면 false
+     */
+    private boolean fill() throws IOException {
+        if (eof) {
+            return false;
+        }
+        if (head > 0) {
+            System.arraycopy(buffer, head, buffer, 0, tail - head);
+            tail -= head;
+            head = 0;
+        }
+        int read = in.read(buffer, tail, buffer.length - tail);
+        if (read < 0) {
+            eof = true;
+            return false;
+        }
+        tail += read;
+        return true;
+    }
+
+    private int indexOfDelimiter() {
+        int last = tail - delimiter.length;
+        outer:
+        for (int i = head; i <= last; i++) {
+            for (int j = 0; j < delimiter.length; j++) {
+                if (buffer[i + j] != delimiter[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    /**
+     * 파트 하나 (inputStream은 다음 파트로 넘어가기 전까지만 읽을 수 있다)
+     */
+    record Part(String name, String fileName, String contentType, InputStream inputStream) {
+
+        boolean isFile() {
+            return fileName != null;
+        }
+    }
+
+    static class MalformedMultipartException extends IOException {
+        MalformedMultipartException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * 현재 파트의 내용 (다음 구분자 직전까지)
+     */
+    private class PartInputStream extends InputStream {
+
+        private boolean done;
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            int read = read(single, 0, 1);
+            return read < 0 ? -1 : single[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (done) {
+                return -1;
+            }
+            if (len == 0) {
+                return 0;
+            }
+            while (true) {
+                int index = indexOfDelimiter();
+                int available;
+                if (index >= 0) {
+                    available = index - head;
+                    if (available == 0) {
+                        head += delimiter.length;
+                        done = true;
+                        return -1;
+                    }
+                } else {
+                    // 구분자 앞부분일 수 있는 끝의 몇 바이트는 남겨 둔다
+                    available = tail - head - (delimiter.length - 1);
+                }
+                if (available > 0) {
+                    int count = Math.min(len, available);
+                    System.arraycopy(buffer, head, b, off, count);
+                    head += count;
+                    return count;
+                }
+                if (!fill()) {
+                    throw new MalformedMultipartException("Unexpected end of multipart body");
+                }
+            }
+        }
+
+        void skipRemaining() throws IOException {
+            byte[] skip = new byte[4096];
+            while (read(skip, 0, skip.length) >= 0) {
+                // discard
+            }
+        }
+    }
+}
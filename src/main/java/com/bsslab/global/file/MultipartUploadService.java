@@ -0,0 +1,176 @@
+package com.bsslab.global.file;
+
+import com.bsslab.global.exception.InvalidUploadException;
+import com.bsslab.global.exception.PayloadTooLargeException;
+import com.bsslab.global.service.FileStorageService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * multipart 업로드를 요청 본문에서 바로 저장소로 스트리밍
+ *
+ * 서블릿 컨테이너의 multipart 처리(임시 파일 저장)를 거치지 않고 파트를 읽는 대로 저장소에 쓰며,
+ * 해시와 크기는 쓰는 동안 계산하고 크기 제한도 읽는 도중에 확인한다 (초과 시 413).
+ */
+@Service
+@Slf4j
+public class MultipartUploadService {
+
+    private final FileStorageService fileStorageService;
+    private final long maxFileSize;
+    private final long maxRequestSize;
+
+    public MultipartUploadService(FileStorageService fileStorageService,
+                                  @Value("${file.upload.max-file-size:10MB}") DataSize maxFileSize,
+                                  @Value("${file.upload.max-request-size:10MB}") DataSize maxRequestSize) {
+        this.fileStorageService = fileStorageService;
+        this.maxFileSize = maxFileSize.toBytes();
+        this.maxRequestSize = maxRequestSize.toBytes();
+    }
+
+    /**
+     * 요청 본문에서 fieldName 파일 파트를 모두 저장한 뒤 handler에 넘긴다
+     * 본문을 읽다가 실패하거나 handler가 실패하면 이미 저장한 파일은 삭제 예약한다.
+     */
+    public <T> T receive(HttpServletRequest request, String fieldName, Function<List<StoredUpload>, T> handler) {
+        List<StoredUpload> uploads = new ArrayList<>();
+        try {
+            storeFiles(request, fieldName, uploads);
+            return handler.apply(uploads);
+        } catch (RuntimeException ex) {
+            discard(uploads);
+            throw ex;
+        }
+    }
+
+    private void storeFiles(HttpServletRequest request, String fieldName, List<StoredUpload> uploads) {
+        String boundary = MultipartStreamParser.extractBoundary(request.getContentType());
+        if (boundary == null) {
+            throw new InvalidUploadException("Expected a multipart/form-data request");
+        }
+        // 길이를 미리 알면 본문을 읽기 전에 거절
+        if (request.getContentLengthLong() > maxRequestSize) {
+            throw new PayloadTooLargeException("Request exceeds the maximum size of " + maxRequestSize + " bytes");
+        }
+
+        try {
+            MultipartStreamParser parser = new MultipartStreamParser(
+                    new LimitedInputStream(request.getInputStream(), maxRequestSize, "Request"), boundary);
+            MultipartStreamParser.Part part;
+            while ((part = parser.nextPart()) != null) {
+                if (!part.isFile() || !fieldName.equals(part.name()) || part.fileName().isEmpty()) {
+                    continue;
+                }
+                // 선택하지 않은 파일 입력은 빈 파트로 온다
+                PushbackInputStream content = new PushbackInputStream(part.inputStream());
+                int first = content.read();
+                if (first < 0) {
+                    continue;
+                }
+                content.unread(first);
+
+                LimitedInputStream limited = new LimitedInputStream(content, maxFileSize, "File " + part.fileName());
+                String fileName = fileStorageService.storeContent(limited, part.fileName());
+                uploads.add(new StoredUpload(fileName, part.fileName(), part.contentType(), limited.getCount()));
+            }
+        } catch (MultipartStreamParser.MalformedMultipartException ex) {
+            throw new InvalidUploadException(ex.getMessage());
+        } catch (IOException ex) {
+            // 클라이언트가 업로드 도중 연결을 끊은 경우 등 (서버 오류가 아니다)
+            throw new InvalidUploadException("Could not read the upload request: " + ex.getMessage());
+        }
+    }
+
+    private void discard(List<StoredUpload> uploads) {
+        if (uploads.isEmpty()) {
+            return;
+        }
+        try {
+            fileStorageService.deleteFiles(uploads.stream().map(StoredUpload::fileName).toList());
+        } catch (Exception e) {
+            log.warn("Failed to schedule deletion of {} uploaded files: {}", uploads.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 읽은 바이트 수를 세고 제한을 넘으면 PayloadTooLargeException
+     * 읽기 오류(본문이 잘렸거나 클라이언트가 연결을 끊음)는 InvalidUploadException으로 바꿔
+     * 저장소 쓰기 오류(500)와 구분한다.
+     */
+    private static class LimitedInputStream extends FilterInputStream {
+
+        private final long limit;
+        private final String subject;
+        private long count;
+
+        LimitedInputStream(InputStream in, long limit, String subject) {
+            super(in);
+            this.limit = limit;
+            this.subject = subject;
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b;
+            try {
+                b = super.read();
+            } catch (IOException ex) {
+                throw toInvalidUpload(ex);
+            }
+            if (b >= 0) {
+                add(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read;
+            try {
+                read = super.read(b, off, len);
+            } catch (IOException ex) {
+                throw toInvalidUpload(ex);
+            }
+            if (read > 0) {
+                add(read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            add(skipped);
+            return skipped;
+        }
+
+        private static InvalidUploadException toInvalidUpload(IOException ex) {
+            if (ex instanceof MultipartStreamParser.MalformedMultipartException) {
+                return new InvalidUploadException(ex.getMessage());
+            }
+            return new InvalidUploadException("Could not read the upload request: " + ex.getMessage());
+        }
+
+        private void add(long bytes) {
+            count += bytes;
+            if (count > limit) {
+                throw new PayloadTooLargeException(subject + " exceeds the maximum size of " + limit + " bytes");
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.bsslab.global.file;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제 대기 중인 업로드 파일 (FileCleanupService가 백그라운드에서 처리)
+ *
+ * 게시글 삭제와 같은 트랜잭션에서 기록되므로, 롤백되면 파일도 지워지지 않는다.
+ * 다른 곳에서 아직 참조하는 파일은 지우지 않고 행만 삭제한다.
+ */
+@Entity
+@Table(name = "pending_file_deletions")
+@Getter
+@NoArgsConstructor
+public class PendingFileDeletion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
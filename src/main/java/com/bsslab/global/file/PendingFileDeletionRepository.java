@@ -0,0 +1,24 @@
+package com.bsslab.global.file;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PendingFileDeletionRepository extends JpaRepository<PendingFileDeletion, Long> {
+
+    @Query("SELECT d FROM PendingFileDeletion d WHERE d.id > :afterId ORDER BY d.id")
+    List<PendingFileDeletion> findAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM PendingFileDeletion d WHERE d.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,12 @@
+package com.bsslab.global.file;
+
+/**
+ * 저장소에 저장된 업로드 파일
+ *
+ * @param fileName         저장소 안의 파일 이름 (posts/{sha256}{ext})
+ * @param originalFileName 클라이언트가 보낸 파일 이름
+ * @param contentType      클라이언트가 보낸 Content-Type
+ * @param size             저장된 바이트 수
+ */
+public record StoredUpload(String fileName, String originalFileName, String contentType, long size) {
+}
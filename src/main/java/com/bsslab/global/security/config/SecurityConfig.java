@@ -1,6 +1,12 @@
 package com.bsslab.global.security.config;
 
 import com.bsslab.global.security.jwt.JwtAuthenticationFilter;
+import com.bsslab.global.security.password.BoundedPasswordEncoder;
+import com.bsslab.global.security.password.CalibratedBCryptPasswordEncoder;
+import com.bsslab.global.security.password.PasswordHashCalibrator;
+import com.bsslab.global.security.password.PasswordHashProperties;
+import com.bsslab.global.security.ratelimit.RateLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,8 +18,8 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -30,7 +36,12 @@ import java.util.Arrays;
 public class SecurityConfig {
 
     private final UserDetailsService userDetailsService;
+    private final UserDetailsPasswordService userDetailsPasswordService;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final PasswordHashProperties passwordHashProperties;
+    private final PasswordHashCalibrator passwordHashCalibrator;
+    private final MeterRegistry meterRegistry;
 
     @Bean
     public DaoAuthenticationProvider authenticationProvider() {
@@ -38,6 +49,8 @@ public class SecurityConfig {
 
         authProvider.setUserDetailsService(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder());
+        // 로그인 성공 시 저장된 해시의 비용이 현재 비용과 다르면 다시 해시해 저장
+        authProvider.setUserDetailsPasswordService(userDetailsPasswordService);
 
         return authProvider;
     }
@@ -49,7 +62,8 @@ public class SecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BoundedPasswordEncoder(
+                new CalibratedBCryptPasswordEncoder(passwordHashCalibrator.calibrate()), passwordHashProperties, meterRegistry);
     }
 
     @Bean
@@ -60,13 +74,14 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth ->
                         auth.requestMatchers("/auth/**", "/swagger-ui/**", "/swagger-ui.html", "/v3/api-docs/**", "/api-docs/**",
-                                        "/forms/active", "/forms/{id}", "/applications/guest", "/files/**").permitAll()
-                                .requestMatchers("/admin/**").hasRole("ADMIN")
+                                        "/forms/active", "/forms/{id}", "/applications/guest", "/files/**", "/actuator/health").permitAll()
+                                .requestMatchers("/admin/**", "/actuator/**").hasRole("ADMIN")
                                 .anyRequest().authenticated()
                 );
 
         http.authenticationProvider(authenticationProvider());
         http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -76,8 +91,8 @@ public class SecurityConfig {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(Arrays.asList("*"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
-        configuration.setAllowedHeaders(Arrays.asList("authorization", "content-type", "x-auth-token"));
-        configuration.setExposedHeaders(Arrays.asList("x-auth-token"));
+        configuration.setAllowedHeaders(Arrays.asList("authorization", "content-type", "x-auth-token", "if-none-match"));
+        configuration.setExposedHeaders(Arrays.asList("x-auth-token", "etag"));
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
         return source;
@@ -1,5 +1,9 @@
 package com.bsslab.global.security.jwt;
 
+import com.bsslab.global.security.revocation.TokenRevocationService;
+import com.bsslab.global.security.service.UserPrincipal;
+import com.bsslab.global.security.service.UserSecurityVersionRegistry;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,6 +20,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
 @Slf4j
@@ -27,20 +32,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsService userDetailsService;
 
+    @Autowired
+    private UserSecurityVersionRegistry securityVersionRegistry;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         try {
             String jwt = parseJwt(request);
-            if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
-                String username = jwtUtils.getUsernameFromJwtToken(jwt);
+            Optional<Claims> claims = jwt != null ? jwtUtils.getVerifiedClaims(jwt) : Optional.empty();
+            if (claims.isPresent() && !tokenRevocationService.isRevoked(
+                    claims.get().getId(), claims.get().getSubject(), claims.get().getIssuedAt())) {
+                UserDetails userDetails = resolveUserDetails(claims.get());
 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                if (userDetails.isEnabled()) {
+                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                            userDetails, null, userDetails.getAuthorities());
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
             }
         } catch (Exception e) {
             log.error("Cannot set user authentication: {}", e.getMessage());
@@ -49,6 +63,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 토큰에 담긴 권한 정보로 사용자 정보를 만들고,
+     * 토큰의 보안 버전이 뒤처진 경우에만 DB에서 다시 읽는다.
+     */
+    private UserDetails resolveUserDetails(Claims claims) {
+        String username = claims.getSubject();
+        Optional<UserPrincipal> principal = jwtUtils.getPrincipalFromClaims(claims);
+
+        if (principal.isPresent()
+                && !securityVersionRegistry.isStale(username, principal.get().getSecurityVersion())) {
+            return principal.get();
+        }
+
+        return userDetailsService.loadUserByUsername(username);
+    }
+
     private String parseJwt(HttpServletRequest request) {
         String headerAuth = request.getHeader("Authorization");
 
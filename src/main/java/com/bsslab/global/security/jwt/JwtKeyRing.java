@@ -0,0 +1,319 @@
+package com.bsslab.global.security.jwt;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.Key;
+import java.security.KeyStore;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JWT 서명/검증 키 저장소
+ *
+ * PKCS12 키 저장소 파일에서 키를 읽어 kid 별로 보관한다.
+ * - HMAC(SecretKey) 항목: 서명과 검증에 모두 사용. rotation-enabled 노드가 주기적으로 새 키를 만든다.
+ * - PrivateKey 항목: RSA/EC 서명 키. 인증서의 공개키로 검증한다.
+ * - 인증서 항목만 있는 저장소: 검증 전용 노드 (개인키를 갖지 않음)
+ * 새 키는 다른 노드가 파일을 다시 읽을 시간만큼 지난 뒤부터 서명에 쓰이고,
+ * 교체된 키는 유예 기간 동안 검증에만 쓰인 뒤 제거된다.
+ */
+@Component
+@Slf4j
+public class JwtKeyRing {
+
+    private static final String KEYSTORE_TYPE = "PKCS12";
+    private static final String HMAC_ALGORITHM = "HmacSHA512";
+    private static final String SECRET_KEY_ID = "secret";
+
+    private final JwtProperties jwtProperties;
+    private final JwtProperties.KeyRing settings;
+    private final Path keyStorePath;
+
+    private volatile Map<String, JwtKey> keys = Collections.emptyMap();
+    private volatile FileTime loadedModifiedTime;
+
+    public JwtKeyRing(JwtProperties jwtProperties) {
+        this.jwtProperties = jwtProperties;
+        this.settings = jwtProperties.getKeyRing();
+        this.keyStorePath = StringUtils.hasText(settings.getPath())
+                ? Paths.get(settings.getPath()).toAbsolutePath().normalize()
+                : null;
+
+        refresh();
+        if (keys.isEmpty()) {
+            throw new IllegalStateException("No JWT keys available. Configure jwt.key-ring.path or jwt.secret.");
+        }
+    }
+
+    /**
+     * 토큰 서명에 사용할 현재 키
+     */
+    public JwtKey getSigningKey() {
+        if (!settings.isSigningEnabled()) {
+            throw new IllegalStateException("This node is configured for JWT verification only");
+        }
+
+        Instant publishedBefore = Instant.now().minus(activationDelay());
+        JwtKey oldest = null;
+        JwtKey active = null;
+        for (JwtKey key : keys.values()) {
+            if (!key.canSign()) {
+                continue;
+            }
+            if (oldest == null) {
+                oldest = key;
+            }
+            if (!key.createdAt().isAfter(publishedBefore)) {
+                active = key;
+            }
+        }
+
+        if (active != null) {
+            return active;
+        }
+        if (oldest != null) {
+            return oldest;
+        }
+        throw new IllegalStateException("No JWT signing key available");
+    }
+
+    /**
+     * kid에 해당하는 검증 키 (유예 기간이 끝난 키는 제외)
+     */
+    public Optional<Key> findVerificationKey(String keyId) {
+        JwtKey key = keys.get(keyId != null ? keyId : SECRET_KEY_ID);
+        if (key == null || !key.isValidAt(Instant.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(key.verificationKey());
+    }
+
+    /**
+     * 키 저장소 파일을 다시 읽고, 교체 담당 노드라면 키 교체와 만료 키 정리를 수행
+     */
+    @Scheduled(fixedDelayString = "${jwt.key-ring.reload-interval:60000}")
+    public synchronized void refresh() {
+        try {
+            if (keyStorePath == null) {
+                if (keys.isEmpty()) {
+                    keys = secretFallback();
+                }
+                return;
+            }
+
+            if (!Files.exists(keyStorePath)) {
+                if (settings.isRotationEnabled()) {
+                    KeyStore keyStore = KeyStore.getInstance(KEYSTORE_TYPE);
+                    keyStore.load(null, password());
+                    addHmacKey(keyStore);
+                    save(keyStore);
+                    log.info("Created JWT key store at {}", keyStorePath);
+                } else {
+                    if (keys.isEmpty()) {
+                        log.warn("JWT key store {} not found, falling back to jwt.secret", keyStorePath);
+                        keys = secretFallback();
+                    }
+                    return;
+                }
+            }
+
+            FileTime modifiedTime = Files.getLastModifiedTime(keyStorePath);
+            if (!settings.isRotationEnabled() && modifiedTime.equals(loadedModifiedTime)) {
+                return;
+            }
+
+            KeyStore keyStore = load();
+            if (settings.isRotationEnabled() && rotate(keyStore)) {
+                save(keyStore);
+                modifiedTime = Files.getLastModifiedTime(keyStorePath);
+            }
+
+            keys = readKeys(keyStore);
+            loadedModifiedTime = modifiedTime;
+        } catch (Exception e) {
+            log.error("Failed to refresh JWT key ring: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 만료된 키를 지우고, 현재 HMAC 키가 교체 주기를 넘겼으면 새 키 추가
+     *
+     * @return 저장소가 변경되었는지 여부
+     */
+    private boolean rotate(KeyStore keyStore) throws Exception {
+        boolean changed = false;
+        Instant now = Instant.now();
+
+        Map<String, JwtKey> current = readKeys(keyStore);
+        for (JwtKey key : current.values()) {
+            if (!key.isValidAt(now)) {
+                keyStore.deleteEntry(key.id());
+                changed = true;
+                log.info("Removed retired JWT key {}", key.id());
+            }
+        }
+
+        // RSA/EC 키는 인증서가 필요하므로 운영자가 keytool로 교체한다
+        boolean asymmetric = current.values().stream()
+                .anyMatch(key -> !(key.verificationKey() instanceof SecretKey));
+        if (asymmetric) {
+            return changed;
+        }
+
+        Optional<JwtKey> newest = current.values().stream()
+                .filter(key -> key.isValidAt(now))
+                .max(Comparator.comparing(JwtKey::createdAt));
+        if (newest.isEmpty() || !newest.get().createdAt().plus(settings.getRotationInterval()).isAfter(now)) {
+            String keyId = addHmacKey(keyStore);
+            changed = true;
+            log.info("Rotated JWT signing key, new key id {}", keyId);
+        }
+
+        return changed;
+    }
+
+    private Map<String, JwtKey> readKeys(KeyStore keyStore) throws Exception {
+        List<LoadedKey> loaded = new ArrayList<>();
+        for (String alias : Collections.list(keyStore.aliases())) {
+            Instant createdAt = keyStore.getCreationDate(alias).toInstant();
+
+            if (keyStore.isKeyEntry(alias)) {
+                Key key = keyStore.getKey(alias, password());
+                if (key instanceof SecretKey) {
+                    // PKCS12에서 읽은 키는 알고리즘 이름이 OID로 올 수 있어 다시 감싼다
+                    SecretKey hmacKey = new SecretKeySpec(key.getEncoded(), HMAC_ALGORITHM);
+                    loaded.add(new LoadedKey(alias, hmacKey, hmacKey, SignatureAlgorithm.HS512, createdAt));
+                } else if (key instanceof PrivateKey privateKey) {
+                    PublicKey publicKey = keyStore.getCertificate(alias).getPublicKey();
+                    PrivateKey signingKey = settings.isSigningEnabled() ? privateKey : null;
+                    loaded.add(new LoadedKey(alias, signingKey, publicKey,
+                            SignatureAlgorithm.forSigningKey(privateKey), createdAt));
+                }
+            } else if (keyStore.isCertificateEntry(alias)) {
+                PublicKey publicKey = keyStore.getCertificate(alias).getPublicKey();
+                loaded.add(new LoadedKey(alias, null, publicKey, null, createdAt));
+            }
+        }
+
+        loaded.sort(Comparator.comparing(LoadedKey::createdAt));
+
+        // 키는 다음 키가 서명에 쓰이기 시작한 시점부터 유예 기간이 지나면 만료
+        Map<String, JwtKey> result = new LinkedHashMap<>();
+        for (int i = 0; i < loaded.size(); i++) {
+            LoadedKey key = loaded.get(i);
+            Instant expiresAt = null;
+            if (i + 1 < loaded.size()) {
+                Instant retiredAt = loaded.get(i + 1).createdAt().plus(activationDelay());
+                expiresAt = retiredAt.plus(gracePeriod());
+            }
+            result.put(key.id(), new JwtKey(key.id(), key.signingKey(), key.verificationKey(),
+                    key.algorithm(), key.createdAt(), expiresAt));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    private String addHmacKey(KeyStore keyStore) throws Exception {
+        KeyGenerator generator = KeyGenerator.getInstance(HMAC_ALGORITHM);
+        generator.init(512);
+        String keyId = UUID.randomUUID().toString();
+        keyStore.setEntry(keyId, new KeyStore.SecretKeyEntry(generator.generateKey()),
+                new KeyStore.PasswordProtection(password()));
+        return keyId;
+    }
+
+    private KeyStore load() throws Exception {
+        KeyStore keyStore = KeyStore.getInstance(KEYSTORE_TYPE);
+        try (InputStream in = Files.newInputStream(keyStorePath)) {
+            keyStore.load(in, password());
+        }
+        return keyStore;
+    }
+
+    private void save(KeyStore keyStore) throws Exception {
+        Path directory = keyStorePath.getParent();
+        Files.createDirectories(directory);
+
+        // 다른 노드가 쓰는 도중의 파일을 읽지 않도록 임시 파일에 쓴 뒤 교체
+        Path tempFile = Files.createTempFile(directory, "jwt-keys", ".tmp");
+        try (OutputStream out = Files.newOutputStream(tempFile)) {
+            keyStore.store(out, password());
+        }
+        Files.move(tempFile, keyStorePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 키 저장소가 없을 때 jwt.secret에서 HS512 키를 만든다 (모든 노드에서 같은 키)
+     */
+    private Map<String, JwtKey> secretFallback() throws Exception {
+        if (!StringUtils.hasText(jwtProperties.getSecret())) {
+            return Collections.emptyMap();
+        }
+        byte[] material = MessageDigest.getInstance("SHA-512")
+                .digest(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        SecretKey key = new SecretKeySpec(material, HMAC_ALGORITHM);
+        return Map.of(SECRET_KEY_ID,
+                new JwtKey(SECRET_KEY_ID, key, key, SignatureAlgorithm.HS512, Instant.EPOCH, null));
+    }
+
+    private char[] password() {
+        return settings.getPassword() != null ? settings.getPassword().toCharArray() : new char[0];
+    }
+
+    private Duration gracePeriod() {
+        return settings.getGracePeriod() != null
+                ? settings.getGracePeriod()
+                : Duration.ofMillis(jwtProperties.getExpiration());
+    }
+
+    private Duration activationDelay() {
+        return Duration.ofMillis(settings.getReloadInterval() * 2);
+    }
+
+    private record LoadedKey(String id, Key signingKey, Key verificationKey,
+                             SignatureAlgorithm algorithm, Instant createdAt) {
+    }
+
+    /**
+     * kid 별 키 정보
+     *
+     * @param signingKey 서명 키 (검증 전용 키면 null)
+     * @param expiresAt  검증에 더 이상 쓰지 않는 시각 (현재 키면 null)
+     */
+    public record JwtKey(String id, Key signingKey, Key verificationKey,
+                         SignatureAlgorithm algorithm, Instant createdAt, Instant expiresAt) {
+
+        public boolean canSign() {
+            return signingKey != null;
+        }
+
+        public boolean isValidAt(Instant now) {
+            return expiresAt == null || now.isBefore(expiresAt);
+        }
+    }
+}
@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 @ConfigurationProperties(prefix = "jwt")
 @Getter
@@ -12,4 +14,64 @@ import org.springframework.stereotype.Component;
 public class JwtProperties {
     private String secret;
     private long expiration;
-}
\ No newline at end of file
+
+    /**
+     * 검증된 토큰 claims 캐시의 최대 항목 수
+     */
+    private long claimsCacheSize = 10_000;
+
+    private KeyRing keyRing = new KeyRing();
+
+    private Revocation revocation = new Revocation();
+
+    /**
+     * 서명 키 저장소(PKCS12) 설정
+     */
+    @Getter
+    @Setter
+    public static class KeyRing {
+        /**
+         * 키 저장소 파일 경로. 비어 있으면 jwt.secret에서 만든 키 하나만 사용한다.
+         */
+        private String path;
+
+        private String password;
+
+        /**
+         * false면 검증 전용 노드 (토큰 발급 불가)
+         */
+        private boolean signingEnabled = true;
+
+        /**
+         * 키 교체를 수행할지 여부. 키 저장소 파일을 쓰는 노드 하나에서만 켠다.
+         */
+        private boolean rotationEnabled = false;
+
+        private Duration rotationInterval = Duration.ofDays(30);
+
+        /**
+         * 교체된 키로 서명된 토큰을 계속 받아주는 기간. 비어 있으면 jwt.expiration과 같다.
+         */
+        private Duration gracePeriod;
+
+        /**
+         * 키 저장소 파일을 다시 읽는 주기(ms)
+         */
+        private long reloadInterval = 60_000;
+    }
+
+    /**
+     * 토큰 폐기 목록(Bloom filter) 설정
+     */
+    @Getter
+    @Setter
+    public static class Revocation {
+        private long expectedInsertions = 100_000;
+        private double falsePositiveRate = 0.01;
+
+        /**
+         * DB 테이블로 Bloom filter를 다시 만드는 주기(ms)
+         */
+        private long rebuildInterval = 60_000;
+    }
+}
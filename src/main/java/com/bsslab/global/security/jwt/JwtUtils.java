@@ -1,15 +1,28 @@
 package com.bsslab.global.security.jwt;
 
+import com.bsslab.domain.user.entity.User;
+import com.bsslab.global.security.service.UserPrincipal;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT 토큰 관련 유틸리티 클래스
@@ -18,18 +31,35 @@ import java.util.Date;
 @Slf4j
 public class JwtUtils {
 
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_STATUS = "status";
+    public static final String CLAIM_SECURITY_VERSION = "ver";
+
     private final JwtProperties jwtProperties;
-    private final Key key;
+    private final JwtKeyRing keyRing;
+    private final JwtParser jwtParser;
+
+    // 토큰 해시 -> 서명 검증이 끝난 claims. 항목은 토큰 만료 시각에 함께 만료된다.
+    private final Cache<String, VerifiedToken> verifiedClaimsCache;
 
     @Autowired
-    public JwtUtils(JwtProperties jwtProperties) {
+    public JwtUtils(JwtProperties jwtProperties, JwtKeyRing keyRing) {
         this.jwtProperties = jwtProperties;
-        // 안전한 키 생성 - HS512에 충분한 키 크기 보장
-        this.key = Keys.secretKeyFor(SignatureAlgorithm.HS512);
+        this.keyRing = keyRing;
+        // JwtParser는 thread-safe 하므로 요청마다 새로 만들지 않고 재사용. 검증 키는 헤더의 kid로 고른다.
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new KeyRingResolver())
+                .build();
+        this.verifiedClaimsCache = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getClaimsCacheSize())
+                .expireAfter(new TokenExpiry())
+                .build();
     }
 
     /**
      * 인증 정보를 기반으로 JWT 토큰 생성
+     * 필터가 DB 조회 없이 인증 객체를 만들 수 있도록 역할, 상태, 보안 버전을 claims에 담는다.
      *
      * @param authentication 인증 정보
      * @return 생성된 JWT 토큰
@@ -37,14 +67,109 @@ public class JwtUtils {
     public String generateJwtToken(Authentication authentication) {
         UserDetails userPrincipal = (UserDetails) authentication.getPrincipal();
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .setSubject(userPrincipal.getUsername())
+                .claim(CLAIM_STATUS, userPrincipal.isEnabled() ? User.Status.ACTIVE.name() : User.Status.INACTIVE.name());
+
+        if (userPrincipal instanceof UserPrincipal principal) {
+            builder.claim(CLAIM_USER_ID, principal.getId())
+                    .claim(CLAIM_ROLE, principal.getRole().name())
+                    .claim(CLAIM_SECURITY_VERSION, principal.getSecurityVersion());
+        } else {
+            userPrincipal.getAuthorities().stream()
+                    .map(GrantedAuthority::getAuthority)
+                    .findFirst()
+                    .ifPresent(role -> builder.claim(CLAIM_ROLE, role));
+        }
+
+        JwtKeyRing.JwtKey signingKey = keyRing.getSigningKey();
+
+        return builder
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.id())
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + jwtProperties.getExpiration()))
-                .signWith(key)
+                .signWith(signingKey.signingKey(), signingKey.algorithm())
                 .compact();
     }
 
+    /**
+     * 토큰을 한 번만 파싱/서명 검증하고 claims 반환
+     * 같은 토큰이 다시 들어오면 캐시된 claims를 그대로 사용한다.
+     *
+     * @param token JWT 토큰
+     * @return 검증된 claims (유효하지 않은 토큰이면 empty)
+     */
+    public Optional<Claims> getVerifiedClaims(String token) {
+        if (!StringUtils.hasText(token)) {
+            log.error("JWT claims 문자열이 비어있음");
+            return Optional.empty();
+        }
+
+        String cacheKey = hashToken(token);
+        VerifiedToken cached = verifiedClaimsCache.getIfPresent(cacheKey);
+        if (cached != null) {
+            // 서명 키가 키 저장소에서 제거되었다면 캐시된 결과도 더 이상 믿지 않는다
+            if (keyRing.findVerificationKey(cached.keyId()).isPresent()) {
+                return Optional.of(cached.claims());
+            }
+            verifiedClaimsCache.invalidate(cacheKey);
+            log.error("유효하지 않은 JWT 서명: 만료된 서명 키 {}", cached.keyId());
+            return Optional.empty();
+        }
+
+        try {
+            Jws<Claims> jws = jwtParser.parseClaimsJws(token);
+            // 검증에 성공한 토큰만 캐시 (위조 토큰으로 캐시를 채우지 못하도록)
+            verifiedClaimsCache.put(cacheKey, new VerifiedToken(jws.getBody(), jws.getHeader().getKeyId()));
+            return Optional.of(jws.getBody());
+        } catch (SecurityException e) {
+            log.error("유효하지 않은 JWT 서명: {}", e.getMessage());
+        } catch (MalformedJwtException e) {
+            log.error("유효하지 않은 JWT 토큰: {}", e.getMessage());
+        } catch (ExpiredJwtException e) {
+            log.error("만료된 JWT 토큰: {}", e.getMessage());
+        } catch (UnsupportedJwtException e) {
+            log.error("지원되지 않는 JWT 토큰: {}", e.getMessage());
+        } catch (IllegalArgumentException e) {
+            log.error("JWT claims 문자열이 비어있음: {}", e.getMessage());
+        } catch (JwtException e) {
+            log.error("JWT 검증 실패: {}", e.getMessage());
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * 검증된 claims로 사용자 정보 생성 (DB 조회 없음)
+     *
+     * @param claims 검증된 claims
+     * @return 사용자 정보 (권한 claims가 없는 토큰이면 empty)
+     */
+    public Optional<UserPrincipal> getPrincipalFromClaims(Claims claims) {
+        String role = claims.get(CLAIM_ROLE, String.class);
+        String status = claims.get(CLAIM_STATUS, String.class);
+        Number userId = claims.get(CLAIM_USER_ID, Number.class);
+        Number securityVersion = claims.get(CLAIM_SECURITY_VERSION, Number.class);
+
+        if (role == null || status == null || userId == null || securityVersion == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(new UserPrincipal(
+                    userId.longValue(),
+                    claims.getSubject(),
+                    "",
+                    User.Role.valueOf(role),
+                    User.Status.valueOf(status) == User.Status.ACTIVE,
+                    securityVersion.longValue()));
+        } catch (IllegalArgumentException e) {
+            log.error("알 수 없는 JWT 권한 정보: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     /**
      * JWT 토큰에서 사용자 이름 추출
      *
@@ -52,12 +177,9 @@ public class JwtUtils {
      * @return 사용자 이름
      */
     public String getUsernameFromJwtToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return getVerifiedClaims(token)
+                .map(Claims::getSubject)
+                .orElseThrow(() -> new JwtException("유효하지 않은 JWT 토큰"));
     }
 
     /**
@@ -67,21 +189,56 @@ public class JwtUtils {
      * @return 유효성 여부
      */
     public boolean validateJwtToken(String authToken) {
+        return getVerifiedClaims(authToken).isPresent();
+    }
+
+    private String hashToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(authToken);
-            return true;
-        } catch (SecurityException e) {
-            log.error("유효하지 않은 JWT 서명: {}", e.getMessage());
-        } catch (MalformedJwtException e) {
-            log.error("유효하지 않은 JWT 토큰: {}", e.getMessage());
-        } catch (ExpiredJwtException e) {
-            log.error("만료된 JWT 토큰: {}", e.getMessage());
-        } catch (UnsupportedJwtException e) {
-            log.error("지원되지 않는 JWT 토큰: {}", e.getMessage());
-        } catch (IllegalArgumentException e) {
-            log.error("JWT claims 문자열이 비어있음: {}", e.getMessage());
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
         }
+    }
+
+    private record VerifiedToken(Claims claims, String keyId) {
+    }
+
+    /**
+     * 헤더의 kid로 키 저장소에서 검증 키를 찾는다
+     */
+    private class KeyRingResolver extends SigningKeyResolverAdapter {
+
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            return keyRing.findVerificationKey(header.getKeyId())
+                    .orElseThrow(() -> new JwtException("알 수 없는 JWT 서명 키: " + header.getKeyId()));
+        }
+    }
 
-        return false;
+    /**
+     * 캐시 항목을 토큰의 exp 시각까지만 유지
+     */
+    private class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+            Date expiration = token.claims().getExpiration();
+            long remainingMillis = expiration != null
+                    ? expiration.getTime() - System.currentTimeMillis()
+                    : jwtProperties.getExpiration();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
-}
\ No newline at end of file
+}
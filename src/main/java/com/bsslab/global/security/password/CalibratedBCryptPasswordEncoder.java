@@ -0,0 +1,38 @@
+package com.bsslab.global.security.password;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 보정된 비용(strength)으로 해시하는 BCrypt 인코더
+ *
+ * 저장된 해시의 비용이 현재 비용과 다르면(높든 낮든) upgradeEncoding()이 true를 반환해
+ * 로그인 성공 시 새 비용으로 다시 해시되도록 한다.
+ */
+public class CalibratedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2(a|y|b)?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+
+    private final int strength;
+
+    public CalibratedBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        return matcher.matches() && Integer.parseInt(matcher.group(2)) != strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+}
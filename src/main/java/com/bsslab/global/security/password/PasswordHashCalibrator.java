@@ -0,0 +1,73 @@
+package com.bsslab.global.security.password;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시작 시 현재 호스트에서 BCrypt 비용별 해시 시간을 측정해 목표 지연 시간에 맞는 비용을 고른다
+ *
+ * 비용이 1 오를 때마다 계산량이 두 배가 되므로, 목표를 넘지 않는 가장 높은 비용을 선택한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PasswordHashCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "bsslab-calibration-password";
+    private static final int SAMPLES = 2;
+
+    private final PasswordHashProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public int calibrate() {
+        int strength = properties.getStrength() > 0
+                ? properties.getStrength()
+                : benchmark(properties.getTargetLatency().toMillis(), properties.getMinStrength(), properties.getMaxStrength());
+
+        Gauge.builder("password.hash.strength", () -> strength)
+                .description("BCrypt cost used for new password hashes")
+                .register(meterRegistry);
+
+        return strength;
+    }
+
+    private int benchmark(long targetMillis, int minStrength, int maxStrength) {
+        // JIT 워밍업
+        new BCryptPasswordEncoder(4).encode(SAMPLE_PASSWORD);
+
+        int chosen = minStrength;
+        long chosenMillis = 0;
+        for (int strength = minStrength; strength <= maxStrength; strength++) {
+            long elapsed = measure(strength);
+            if (elapsed > targetMillis && strength > minStrength) {
+                break;
+            }
+
+            chosen = strength;
+            chosenMillis = elapsed;
+
+            // 다음 비용은 약 두 배가 걸리므로 목표를 넘을 것이 확실하면 측정하지 않는다
+            if (elapsed * 2 > targetMillis) {
+                break;
+            }
+        }
+
+        log.info("Calibrated BCrypt strength {} ({} ms per hash, target {} ms)", chosen, chosenMillis, targetMillis);
+        return chosen;
+    }
+
+    private long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000);
+        }
+        return best;
+    }
+}
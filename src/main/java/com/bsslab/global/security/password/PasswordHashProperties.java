@@ -0,0 +1,53 @@
+package com.bsslab.global.security.password;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "password-hash")
+@Getter
+@Setter
+public class PasswordHashProperties {
+
+    /**
+     * 해시 전용 스레드 수 (0 이하면 CPU 코어 수의 절반)
+     */
+    private int threads = 0;
+
+    /**
+     * 대기열 크기 (가득 차면 즉시 503 응답)
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * 대기 + 해시 계산에 허용하는 최대 시간
+     */
+    private Duration timeout = Duration.ofSeconds(3);
+
+    /**
+     * 과부하 응답의 Retry-After 값(초)
+     */
+    private long retryAfterSeconds = 1;
+
+    /**
+     * 고정 BCrypt 비용 (0 이하면 시작 시 측정으로 결정)
+     * 여러 노드가 서로 다른 비용으로 계속 재해시하지 않도록 다중 노드 환경에서는 고정값을 권장한다.
+     */
+    private int strength = 0;
+
+    /**
+     * 비용 측정 시 목표로 하는 해시 1회 시간
+     */
+    private Duration targetLatency = Duration.ofMillis(250);
+
+    private int minStrength = 10;
+    private int maxStrength = 14;
+
+    public int resolveThreads() {
+        return threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+}
@@ -0,0 +1,261 @@
+package com.bsslab.global.security.ratelimit;
+
+import com.bsslab.global.exception.GlobalExceptionHandler.ErrorResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 없이 호출 가능한 엔드포인트(로그인, 회원가입, 비회원 지원서)의 요청 수 제한
+ *
+ * 규칙별·클라이언트 키별로 토큰 버킷을 두고, 초과 요청은 서비스 계층에 닿기 전에 429로 거절한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    // USERNAME 키를 위해 읽는 요청 본문의 최대 크기
+    private static final int MAX_BODY_BYTES = 16 * 1024;
+    private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private List<IpAddressMatcher> trustedProxies = List.of();
+
+    @PostConstruct
+    public void init() {
+        trustedProxies = properties.getTrustedProxies().stream()
+                .filter(StringUtils::hasText)
+                .map(address -> new IpAddressMatcher(address.trim()))
+                .toList();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!properties.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        List<RateLimitProperties.Rule> rules = properties.getRules();
+        HttpServletRequest currentRequest = request;
+        long now = System.nanoTime();
+
+        for (int i = 0; i < rules.size(); i++) {
+            RateLimitProperties.Rule rule = rules.get(i);
+            if (!matches(rule, request.getMethod(), path)) {
+                continue;
+            }
+
+            if (rule.getKey() == RateLimitProperties.KeyType.USERNAME && !(currentRequest instanceof CachedBodyRequest)) {
+                currentRequest = new CachedBodyRequest(request, request.getInputStream().readNBytes(MAX_BODY_BYTES));
+            }
+
+            String clientKey = resolveClientKey(rule, currentRequest);
+            if (clientKey == null) {
+                continue;
+            }
+
+            TokenBucket bucket = buckets.computeIfAbsent(i + ":" + clientKey,
+                    key -> new TokenBucket(rule.getLimit(), rule.getPeriod().toNanos(), now));
+            long waitNanos = bucket.tryConsume(now);
+            if (waitNanos > 0) {
+                log.debug("Rate limit exceeded: {} {} ({})", request.getMethod(), path, clientKey);
+                reject(request, response, waitNanos);
+                return;
+            }
+        }
+
+        if (buckets.size() > properties.getMaxBuckets()) {
+            evictIdleBuckets();
+        }
+
+        filterChain.doFilter(currentRequest, response);
+    }
+
+    /**
+     * 가득 찬(유휴) 버킷 정리
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        buckets.entrySet().removeIf(entry -> entry.getValue().isIdle(now));
+    }
+
+    private boolean matches(RateLimitProperties.Rule rule, String method, String path) {
+        return (!StringUtils.hasText(rule.getMethod()) || rule.getMethod().equalsIgnoreCase(method))
+                && pathMatcher.match(rule.getPath(), path);
+    }
+
+    private String resolveClientKey(RateLimitProperties.Rule rule, HttpServletRequest request) {
+        if (rule.getKey() == RateLimitProperties.KeyType.USERNAME) {
+            byte[] body = ((CachedBodyRequest) request).body;
+            try {
+                JsonNode username = objectMapper.readTree(body).get("username");
+                return username != null && username.isTextual() ? "user:" + username.asText().toLowerCase() : null;
+            } catch (IOException e) {
+                return null;
+            }
+        }
+        return "ip:" + resolveClientIp(request);
+    }
+
+    /**
+     * 신뢰하는 프록시를 거친 요청이면 X-Forwarded-For를 오른쪽부터 거슬러 올라가
+     * 신뢰하는 프록시가 아닌 첫 주소를 클라이언트로 본다 (그보다 왼쪽 값은 클라이언트가 꾸밀 수 있음)
+     */
+    private String resolveClientIp(HttpServletRequest request) {
+        String client = request.getRemoteAddr();
+        String forwardedFor = request.getHeader(X_FORWARDED_FOR);
+        if (!StringUtils.hasText(forwardedFor) || !isTrustedProxy(client)) {
+            return client;
+        }
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!isIpAddress(hop)) {
+                break;
+            }
+            client = hop;
+            if (!isTrustedProxy(hop)) {
+                break;
+            }
+        }
+        return client;
+    }
+
+    private boolean isTrustedProxy(String address) {
+        for (IpAddressMatcher matcher : trustedProxies) {
+            try {
+                if (matcher.matches(address)) {
+                    return true;
+                }
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    // 호스트 이름 조회(DNS)가 일어나지 않도록 IP 표기만 받는다
+    private static boolean isIpAddress(String value) {
+        if (value.isEmpty() || value.length() > 45) {
+            return false;
+        }
+        boolean colon = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ':') {
+                colon = true;
+            } else if (!(c == '.' || (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F'))) {
+                return false;
+            }
+        }
+        // IPv4는 숫자와 점만
+        return colon || value.chars().allMatch(c -> c == '.' || (c >= '0' && c <= '9'));
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Too many requests. Please try again later.",
+                "uri=" + request.getRequestURI(),
+                LocalDateTime.now()
+        );
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    /**
+     * 본문 앞부분을 미리 읽어 둔 요청
+     * 컨트롤러에는 읽어 둔 부분 뒤에 원래 스트림의 나머지를 이어 붙여 전달한다.
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            ServletInputStream remaining = super.getInputStream();
+            ByteArrayInputStream prefix = new ByteArrayInputStream(body);
+            SequenceInputStream input = new SequenceInputStream(prefix, remaining);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return prefix.available() == 0 && remaining.isFinished();
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() throws IOException {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
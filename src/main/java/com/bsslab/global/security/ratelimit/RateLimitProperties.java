@@ -0,0 +1,62 @@
+package com.bsslab.global.security.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+@Getter
+@Setter
+public class RateLimitProperties {
+    private boolean enabled = true;
+
+    /**
+     * 버킷 수 상한 (초과 시 유휴 버킷을 즉시 정리)
+     */
+    private int maxBuckets = 100_000;
+
+    /**
+     * X-Forwarded-For를 믿을 프록시 주소 (IP 또는 CIDR)
+     * 요청이 이 주소에서 왔을 때만 헤더에서 클라이언트 IP를 찾는다. 기본값은 사설망과 루프백.
+     */
+    private List<String> trustedProxies = new ArrayList<>(List.of(
+            "10.0.0.0/8", "172.16.0.0/12", "192.168.0.0/16", "127.0.0.0/8", "::1/128"));
+
+    private List<Rule> rules = new ArrayList<>();
+
+    /**
+     * 경로별 제한 규칙: period 동안 최대 limit 회 (토큰 버킷 용량 = limit)
+     */
+    @Getter
+    @Setter
+    public static class Rule {
+        private String path;
+
+        /**
+         * HTTP 메서드 (비어 있으면 모든 메서드)
+         */
+        private String method;
+
+        private KeyType key = KeyType.IP;
+        private int limit;
+        private Duration period = Duration.ofMinutes(1);
+    }
+
+    public enum KeyType {
+        /**
+         * 클라이언트 IP
+         */
+        IP,
+
+        /**
+         * 요청 본문(JSON)의 username 필드
+         */
+        USERNAME
+    }
+}
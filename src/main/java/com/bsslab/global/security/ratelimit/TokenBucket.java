@@ -0,0 +1,48 @@
+package com.bsslab.global.security.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * lock-free 토큰 버킷 (GCRA)
+ *
+ * 상태는 "이론적 도착 시각(TAT)" 하나뿐이라 CAS 한 번으로 소비할 수 있다.
+ * 요청마다 TAT를 emissionInterval만큼 밀고, TAT가 현재보다 period 이상 앞서면 버킷이 빈 것이다.
+ */
+final class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long periodNanos;
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(int limit, long periodNanos, long now) {
+        this.periodNanos = periodNanos;
+        this.emissionIntervalNanos = Math.max(1, periodNanos / Math.max(1, limit));
+        this.theoreticalArrival = new AtomicLong(now);
+    }
+
+    /**
+     * 토큰 하나를 소비
+     *
+     * @return 0이면 허용, 양수면 다음 토큰까지 기다려야 하는 시간(ns)
+     */
+    long tryConsume(long now) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long next = Math.max(tat, now) + emissionIntervalNanos;
+            long waitNanos = next - now - periodNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 버킷이 가득 찬 상태면 유휴 상태 (제거해도 동작이 같다)
+     */
+    boolean isIdle(long now) {
+        return theoreticalArrival.get() <= now;
+    }
+}
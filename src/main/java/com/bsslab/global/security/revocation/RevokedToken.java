@@ -0,0 +1,48 @@
+package com.bsslab.global.security.revocation;
+
+import com.bsslab.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 폐기된(로그아웃 등) JWT의 ID
+ *
+ * issuedBefore가 있는 행은 사용자 단위 강제 폐기로, 그 시각까지 발급된 사용자의 토큰을 모두 폐기한다.
+ * 토큰이 만료되면 더 이상 보관할 필요가 없으므로 주기적으로 삭제된다.
+ */
+@Entity
+@Table(name = "revoked_tokens", indexes = {
+        @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at")
+})
+@Getter
+@NoArgsConstructor
+public class RevokedToken extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "token_id", nullable = false, unique = true, length = 64)
+    private String tokenId;
+
+    @Column(nullable = false)
+    private String username;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "issued_before")
+    private LocalDateTime issuedBefore;
+
+    @Builder
+    public RevokedToken(String tokenId, String username, LocalDateTime expiresAt, LocalDateTime issuedBefore) {
+        this.tokenId = tokenId;
+        this.username = username;
+        this.expiresAt = expiresAt;
+        this.issuedBefore = issuedBefore;
+    }
+}
@@ -0,0 +1,28 @@
+package com.bsslab.global.security.revocation;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+    boolean existsByTokenId(String tokenId);
+
+    @Query("SELECT r.tokenId FROM RevokedToken r WHERE r.expiresAt > :now AND r.issuedBefore IS NULL")
+    List<String> findActiveTokenIds(@Param("now") LocalDateTime now);
+
+    // 사용자 단위 강제 폐기 (아직 그 이전에 발급된 토큰이 살아 있을 수 있는 것만)
+    @Query("SELECT r FROM RevokedToken r WHERE r.expiresAt > :now AND r.issuedBefore IS NOT NULL")
+    List<RevokedToken> findActiveUserRevocations(@Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
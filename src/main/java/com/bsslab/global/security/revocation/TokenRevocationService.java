@@ -0,0 +1,158 @@
+package com.bsslab.global.security.revocation;
+
+import com.bsslab.common.util.BloomFilter;
+import com.bsslab.global.security.jwt.JwtProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JWT 폐기 목록
+ *
+ * 폐기된 토큰 ID는 DB 테이블에 저장하고, 각 노드는 그 테이블로 만든 Bloom filter를 메모리에 둔다.
+ * 요청마다 Bloom filter만 확인하고, 양성(폐기되었을 수도 있음)일 때만 DB에서 정확히 확인한다.
+ * 사용자 단위 강제 폐기(그 시각까지 발급된 토큰 전체)는 수가 적으므로 username -> 시각 맵으로 메모리에 둔다.
+ */
+@Service
+@Slf4j
+public class TokenRevocationService {
+
+    private static final String USER_REVOCATION_PREFIX = "user:";
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final JwtProperties.Revocation settings;
+    private final long tokenLifetimeMillis;
+
+    private volatile BloomFilter filter;
+
+    // 사용자 단위 강제 폐기 (username -> 이 시각(epoch millis)까지 발급된 토큰은 폐기)
+    private volatile Map<String, Long> userRevocations = Map.of();
+
+    // 재구성 도중에 폐기된 토큰이 새 필터에서 빠지지 않도록 최근 폐기분을 따로 보관 (토큰 ID -> 폐기 시각)
+    private final Map<String, Long> recentlyRevoked = new ConcurrentHashMap<>();
+    private final Map<String, Long> recentlyRevokedUsers = new ConcurrentHashMap<>();
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository, JwtProperties jwtProperties) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.settings = jwtProperties.getRevocation();
+        this.tokenLifetimeMillis = jwtProperties.getExpiration();
+        this.filter = new BloomFilter(settings.getExpectedInsertions(), settings.getFalsePositiveRate());
+    }
+
+    /**
+     * 토큰 폐기
+     *
+     * @param tokenId   토큰 ID (jti)
+     * @param username  토큰 소유자
+     * @param expiresAt 토큰 만료 시각 (이후 목록에서 자동 삭제)
+     */
+    @Transactional
+    public void revoke(String tokenId, String username, Date expiresAt) {
+        if (tokenId == null || revokedTokenRepository.existsByTokenId(tokenId)) {
+            return;
+        }
+
+        revokedTokenRepository.save(RevokedToken.builder()
+                .tokenId(tokenId)
+                .username(username)
+                .expiresAt(LocalDateTime.ofInstant(expiresAt.toInstant(), ZoneId.systemDefault()))
+                .build());
+
+        filter.put(tokenId);
+        recentlyRevoked.put(tokenId, System.currentTimeMillis());
+    }
+
+    /**
+     * 사용자의 토큰을 모두 강제 폐기 (지금까지 발급된 토큰 전체, 이후 새로 로그인한 토큰은 유효)
+     * 다른 노드에는 재구성 주기로 반영된다.
+     */
+    @Transactional
+    public void revokeAllFor(String username) {
+        long now = System.currentTimeMillis();
+        LocalDateTime issuedBefore = LocalDateTime.ofInstant(Instant.ofEpochMilli(now), ZoneId.systemDefault());
+        revokedTokenRepository.save(RevokedToken.builder()
+                .tokenId(USER_REVOCATION_PREFIX + UUID.randomUUID())
+                .username(username)
+                // 이 시각 이전에 발급된 토큰이 모두 만료될 때까지 보관
+                .expiresAt(issuedBefore.plusNanos(tokenLifetimeMillis * 1_000_000L))
+                .issuedBefore(issuedBefore)
+                .build());
+
+        recentlyRevokedUsers.merge(username, now, Math::max);
+    }
+
+    /**
+     * 토큰 ID 폐기 또는 사용자 단위 강제 폐기에 해당하는지 확인
+     * JWT의 발급 시각은 초 단위이므로 폐기와 같은 초에 발급된 토큰도 폐기된 것으로 본다.
+     */
+    public boolean isRevoked(String tokenId, String username, Date issuedAt) {
+        if (isRevoked(tokenId)) {
+            return true;
+        }
+        Long revokedAt = userRevocations.get(username);
+        Long recentlyRevokedAt = recentlyRevokedUsers.get(username);
+        if (recentlyRevokedAt != null && (revokedAt == null || recentlyRevokedAt > revokedAt)) {
+            revokedAt = recentlyRevokedAt;
+        }
+        return revokedAt != null && (issuedAt == null || issuedAt.getTime() <= revokedAt);
+    }
+
+    /**
+     * 토큰이 폐기되었는지 확인 (Bloom filter 양성일 때만 DB 조회)
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !filter.mightContain(tokenId)) {
+            return false;
+        }
+        return revokedTokenRepository.existsByTokenId(tokenId);
+    }
+
+    /**
+     * 만료된 항목을 지우고 DB 테이블로 Bloom filter를 다시 만든다
+     * 다른 노드에서 폐기한 토큰도 이 주기로 반영된다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval:60000}")
+    public void rebuild() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int purged = revokedTokenRepository.deleteExpired(now);
+            if (purged > 0) {
+                log.info("Purged {} expired revoked tokens", purged);
+            }
+
+            List<String> tokenIds = revokedTokenRepository.findActiveTokenIds(now);
+            BloomFilter next = new BloomFilter(
+                    Math.max(settings.getExpectedInsertions(), tokenIds.size() * 2L),
+                    settings.getFalsePositiveRate());
+            tokenIds.forEach(next::put);
+
+            long cutoff = System.currentTimeMillis() - settings.getRebuildInterval() * 2;
+            recentlyRevoked.values().removeIf(revokedAt -> revokedAt < cutoff);
+            recentlyRevoked.keySet().forEach(next::put);
+
+            Map<String, Long> nextUserRevocations = new HashMap<>();
+            for (RevokedToken revocation : revokedTokenRepository.findActiveUserRevocations(now)) {
+                nextUserRevocations.merge(revocation.getUsername(),
+                        revocation.getIssuedBefore().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(),
+                        Math::max);
+            }
+            recentlyRevokedUsers.values().removeIf(revokedAt -> revokedAt < cutoff);
+
+            filter = next;
+            userRevocations = nextUserRevocations;
+        } catch (Exception e) {
+            log.warn("Failed to rebuild token revocation filter: {}", e.getMessage());
+        }
+    }
+}
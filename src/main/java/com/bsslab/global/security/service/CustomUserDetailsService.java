@@ -1,34 +1,41 @@
 package com.bsslab.global.security.service;
 
+import com.bsslab.domain.user.dto.UserSnapshot;
 import com.bsslab.domain.user.entity.User;
 import com.bsslab.domain.user.repository.UserRepository;
+import com.bsslab.domain.user.service.UserLookupService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
-
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
+    private final UserLookupService userLookupService;
     private final UserRepository userRepository;
 
     @Override
-    @Transactional
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
+        return userLookupService.findByUsername(username)
+                .map(UserPrincipal::from)
                 .orElseThrow(() -> new UsernameNotFoundException("User Not Found with username: " + username));
+    }
+
+    /**
+     * 로그인 시 비용이 다른 해시를 새 해시로 교체 (비밀번호 자체는 같으므로 보안 버전은 유지)
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User Not Found with username: " + userDetails.getUsername()));
+        user.rehashPassword(newPassword);
 
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getUsername())
-                .password(user.getPassword())
-                .authorities(Collections.singletonList(new SimpleGrantedAuthority(user.getRole().name())))
-                .disabled(user.getStatus() == User.Status.INACTIVE)
-                .build();
+        return UserPrincipal.from(UserSnapshot.from(user));
     }
-}
\ No newline at end of file
+}
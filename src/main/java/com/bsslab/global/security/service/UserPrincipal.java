@@ -0,0 +1,40 @@
+package com.bsslab.global.security.service;
+
+import com.bsslab.domain.user.dto.UserSnapshot;
+import com.bsslab.domain.user.entity.User;
+import lombok.Getter;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collections;
+
+/**
+ * 인증된 사용자 정보
+ *
+ * DB에서 읽은 사용자뿐 아니라 JWT claims만으로도 만들 수 있도록
+ * 사용자 ID, 역할, 보안 버전을 함께 보관한다.
+ */
+@Getter
+public class UserPrincipal extends org.springframework.security.core.userdetails.User {
+
+    private final Long id;
+    private final User.Role role;
+    private final long securityVersion;
+
+    public UserPrincipal(Long id, String username, String password, User.Role role, boolean enabled, long securityVersion) {
+        super(username, password != null ? password : "", enabled, true, true, true,
+                Collections.singletonList(new SimpleGrantedAuthority(role.name())));
+        this.id = id;
+        this.role = role;
+        this.securityVersion = securityVersion;
+    }
+
+    public static UserPrincipal from(UserSnapshot user) {
+        return new UserPrincipal(
+                user.getId(),
+                user.getUsername(),
+                user.getPassword(),
+                user.getRole(),
+                user.getStatus() != User.Status.INACTIVE,
+                user.getSecurityVersion());
+    }
+}
@@ -0,0 +1,97 @@
+package com.bsslab.global.security.service;
+
+import com.bsslab.domain.user.event.UserChangedEvent;
+import com.bsslab.domain.user.repository.UserRepository;
+import com.bsslab.domain.user.service.UserLookupService;
+import com.bsslab.global.security.jwt.JwtProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 보안 버전 테이블 (메모리)
+ *
+ * 최근 토큰 유효기간 안에 역할/상태/비밀번호가 바뀐 사용자만 보관한다.
+ * JWT에 담긴 버전이 이 테이블보다 낮을 때만 필터가 DB를 다시 조회한다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class UserSecurityVersionRegistry {
+
+    // 노드 간 시계 차이를 고려해 조회 구간을 조금 겹치게 잡는다
+    private static final long REFRESH_OVERLAP_SECONDS = 60;
+
+    private final UserRepository userRepository;
+    private final UserLookupService userLookupService;
+    private final JwtProperties jwtProperties;
+
+    private final ConcurrentHashMap<String, VersionEntry> versions = new ConcurrentHashMap<>();
+    private volatile LocalDateTime lastRefreshedAt;
+
+    /**
+     * 토큰의 보안 버전이 알려진 최신 버전보다 낮은지 확인
+     */
+    public boolean isStale(String username, long tokenVersion) {
+        VersionEntry entry = versions.get(username);
+        return entry != null && tokenVersion < entry.version();
+    }
+
+    /**
+     * 사용자의 최신 보안 버전 기록 (더 낮은 버전으로는 덮어쓰지 않음)
+     * 버전이 올라가면 사용자 캐시도 비운다. 다른 노드에서 바뀐 사용자는 캐시가 이전 역할/상태를
+     * 들고 있으므로, 필터가 다시 읽을 때 DB에서 새로 읽도록 한다.
+     */
+    public void record(String username, long version) {
+        if (version <= 0) {
+            return;
+        }
+        VersionEntry candidate = new VersionEntry(version, System.currentTimeMillis());
+        VersionEntry recorded = versions.merge(username, candidate,
+                (current, updated) -> updated.version() > current.version() ? updated : current);
+        if (recorded == candidate) {
+            userLookupService.evict(username);
+        }
+    }
+
+    /**
+     * 이 노드에서 일어난 변경은 주기를 기다리지 않고 커밋 직후 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        record(event.getUsername(), event.getSecurityVersion());
+    }
+
+    /**
+     * 최근에 보안 버전이 바뀐 사용자를 DB에서 다시 읽어 테이블 갱신
+     * 다른 노드에서 일어난 변경도 이 주기로 반영된다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.security-version-refresh-interval:30000}")
+    public void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = lastRefreshedAt != null
+                ? lastRefreshedAt.minusSeconds(REFRESH_OVERLAP_SECONDS)
+                : now.minusNanos(jwtProperties.getExpiration() * 1_000_000L);
+
+        try {
+            userRepository.findSecurityVersionsUpdatedSince(since)
+                    .forEach(view -> record(view.getUsername(), view.getSecurityVersion()));
+            lastRefreshedAt = now;
+        } catch (Exception e) {
+            log.warn("Failed to refresh user security versions: {}", e.getMessage());
+        }
+
+        // 토큰 유효기간보다 오래된 항목은 더 이상 비교할 토큰이 없으므로 제거
+        long cutoff = System.currentTimeMillis() - jwtProperties.getExpiration();
+        versions.values().removeIf(entry -> entry.recordedAt() < cutoff);
+    }
+
+    private record VersionEntry(long version, long recordedAt) {
+    }
+}
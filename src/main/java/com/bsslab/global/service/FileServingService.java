@@ -0,0 +1,170 @@
+package com.bsslab.global.service;
+
+import com.bsslab.domain.post.repository.PostImageRepository;
+import com.bsslab.global.exception.GlobalExceptionHandler.ResourceNotFoundException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+
+/**
+ * 업로드 파일 응답
+ *
+ * 저장 파일명은 내용의 SHA-256(이전 업로드는 UUID)이라 내용이 바뀌지 않으므로 immutable로 캐시하게 하고,
+ * 파일명을 ETag로 써서 If-None-Match와 단일 Range 요청을 지원한다.
+ * (중복 업로드 시 수정 시각이 바뀌므로 크기/수정 시각은 ETag에 쓰지 않는다) Tomcat sendfile을 쓸 수 있으면 커널이 파일을 직접 보내고,
+ * 아니면 FileChannel.transferTo로 보낸다.
+ */
+@Service
+public class FileServingService {
+
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final FileStorageService fileStorageService;
+    private final PostImageRepository postImageRepository;
+    // 파일 내용이 바뀌지 않으므로 파일별 타입은 만료 없이 캐시
+    private final Cache<String, MediaType> contentTypes;
+
+    public FileServingService(FileStorageService fileStorageService,
+                              PostImageRepository postImageRepository,
+                              @Value("${file.content-type-cache-size:10000}") long contentTypeCacheSize) {
+        this.fileStorageService = fileStorageService;
+        this.postImageRepository = postImageRepository;
+        this.contentTypes = Caffeine.newBuilder()
+                .maximumSize(contentTypeCacheSize)
+                .build();
+    }
+
+    public void serve(String fileName, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path path;
+        BasicFileAttributes attributes;
+        try {
+            path = fileStorageService.getFilePath(fileName);
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException | RuntimeException e) {
+            throw new ResourceNotFoundException("File not found " + fileName);
+        }
+        if (!attributes.isRegularFile()) {
+            throw new ResourceNotFoundException("File not found " + fileName);
+        }
+
+        long length = attributes.size();
+        String etag = "\"" + path.getFileName() + "\"";
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            return;
+        }
+
+        response.setContentType(contentTypes.get(fileName, this::resolveContentType).toString());
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + path.getFileName() + "\"");
+
+        long start = 0;
+        long end = length - 1;
+        HttpRange range = resolveRange(request, etag);
+        if (range != null) {
+            if (length == 0 || range.getRangeStart(length) >= length) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            start = range.getRangeStart(length);
+            end = range.getRangeEnd(length);
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+
+        if ("HEAD".equalsIgnoreCase(request.getMethod()) || count <= 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 서블릿이 끝난 뒤 Tomcat이 sendfile로 전송 (end는 배타적)
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            OutputStream out = response.getOutputStream();
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = start;
+            while (position <= end) {
+                long sent = channel.transferTo(position, end + 1 - position, target);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+            }
+            out.flush();
+        }
+    }
+
+    /**
+     * 단일 Range만 처리한다. If-Range가 현재 ETag와 다르거나 여러 구간을 요청하면 전체를 보낸다.
+     */
+    private HttpRange resolveRange(HttpServletRequest request, String etag) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(etag)) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 게시글 이미지 원본은 업로드 시 저장한 타입, 그 외(축소본 등)는 확장자로 정한다.
+     * 브라우저에서 실행될 수 있는 타입(HTML, SVG 등)은 원본 타입으로 쓰지 않는다.
+     */
+    private MediaType resolveContentType(String fileName) {
+        String storedType = postImageRepository.findFileTypeByImageUrl(fileName).orElse(null);
+        if (storedType != null) {
+            try {
+                MediaType mediaType = MediaType.parseMediaType(storedType);
+                if ("image".equals(mediaType.getType()) && !mediaType.getSubtype().contains("svg")) {
+                    return mediaType;
+                }
+            } catch (IllegalArgumentException e) {
+                // 확장자로 판단
+            }
+        }
+        return MediaTypeFactory.getMediaType(fileName)
+                .filter(mediaType -> "image".equals(mediaType.getType()) && !mediaType.getSubtype().contains("svg"))
+                .orElse(MediaType.APPLICATION_OCTET_STREAM);
+    }
+}
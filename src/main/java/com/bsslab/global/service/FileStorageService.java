@@ -3,27 +3,48 @@ package com.bsslab.global.service;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
-import java.util.Objects;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
+/**
+ * 업로드 파일 저장소
+ *
+ * 파일은 내용의 SHA-256으로 이름을 정해 저장하므로 같은 파일을 여러 번 올려도 한 벌만 남는다.
+ * 삭제는 바로 하지 않고 예약만 하며, FileCleanupService가 참조(PostImage 등)가 모두 없어진 파일만 지운다.
+ */
 @Service
 public class FileStorageService {
 
+    private static final String POSTS_DIR = "posts";
+
     private final Path fileStorageLocation;
+    private final JdbcTemplate jdbcTemplate;
 
-    public FileStorageService(@Value("${file.upload-dir}") String uploadDir) {
+    public FileStorageService(@Value("${file.upload-dir}") String uploadDir, JdbcTemplate jdbcTemplate) {
         this.fileStorageLocation = Paths.get(uploadDir)
                 .toAbsolutePath().normalize();
+        this.jdbcTemplate = jdbcTemplate;
 
         try {
             Files.createDirectories(this.fileStorageLocation);
@@ -32,33 +53,82 @@ public class FileStorageService {
         }
     }
 
-    public String storeFile(MultipartFile file) {
-        // Normalize file name
-        String originalFileName = StringUtils.cleanPath(Objects.requireNonNull(file.getOriginalFilename()));
-        String fileExtension = "";
-
+    /**
+     * 스트림을 읽으면서 SHA-256을 계산해 posts/{hash}{ext}로 저장 (같은 내용이 이미 있으면 그 파일을 쓴다)
+     * 저장소 디렉터리 안에 한 번만 쓰고 이름만 바꾸므로, 업로드 본문을 직접 넘기면 디스크 쓰기는 한 번이다.
+     */
+    public String storeContent(InputStream in, String originalFileName) {
+        String extension = extensionOf(StringUtils.cleanPath(originalFileName));
         try {
-            // Extract file extension
-            if (originalFileName.contains(".")) {
-                fileExtension = originalFileName.substring(originalFileName.lastIndexOf("."));
+            // 같은 파일시스템의 임시 파일에 쓰고 이름만 바꾼다
+            Path tempFile = createTempFile();
+            try {
+                MessageDigest digest = sha256();
+                Files.copy(new DigestInputStream(in, digest), tempFile);
+                return commitContent(tempFile, HexFormat.of().formatHex(digest.digest()), extension);
+            } finally {
+                Files.deleteIfExists(tempFile);
             }
+        } catch (IOException ex) {
+            throw new RuntimeException("Could not store file " + originalFileName + ". Please try again!", ex);
+        }
+    }
 
-            // Generate unique file name
-            String uniqueFileName = UUID.randomUUID().toString() + fileExtension;
-
-            // Create storage directory if it doesn't exist
-            Path targetLocation = this.fileStorageLocation.resolve("posts");
-            Files.createDirectories(targetLocation);
+    /**
+     * 내용을 다 쓴 임시 파일을 해시 이름으로 옮긴다 (같은 내용이 이미 있으면 새 파일로 바꾼다)
+     * 매번 새 파일이 생기므로, 정리 작업이 지우려고 옮겨 둔 파일과 섞이지 않는다.
+     */
+    private String commitContent(Path tempFile, String sha256Hex, String extension) throws IOException {
+        String fileName = POSTS_DIR + "/" + sha256Hex + extension;
+        Path filePath = getFilePath(fileName);
+        try {
+            Files.move(tempFile, filePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException ex) {
+            // 사용 중인 파일을 바꿀 수 없는 플랫폼 (내용이 같으므로 기존 파일을 쓴다)
+            if (!touchIfExists(filePath)) {
+                throw ex;
+            }
+        }
+        return fileName;
+    }
 
-            // Copy file to the target location
-            Path filePath = targetLocation.resolve(uniqueFileName);
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+    /**
+     * 원본 파일에서 만든 파일(축소본 등)을 원본 옆에 저장
+     * posts/abc.jpg, "thumb", "jpg" -> posts/abc-thumb.jpg
+     * 원본 이름이 내용 해시이므로 같은 이름의 파일이 이미 있으면 내용도 같다.
+     */
+    public String storeDerivedFile(String sourceFileName, String suffix, String extension, byte[] data) {
+        int dot = sourceFileName.lastIndexOf('.');
+        String baseName = dot > sourceFileName.lastIndexOf('/') ? sourceFileName.substring(0, dot) : sourceFileName;
+        String derivedFileName = baseName + "-" + suffix + "." + extension;
 
-            // Return the relative path (not the full path for security reasons)
-            return "posts/" + uniqueFileName;
+        try {
+            Path filePath = getFilePath(derivedFileName);
+            if (touchIfExists(filePath)) {
+                return derivedFileName;
+            }
+            Path tempFile = createTempFile();
+            try {
+                Files.write(tempFile, data);
+                Files.move(tempFile, filePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+            return derivedFileName;
         } catch (IOException ex) {
-            throw new RuntimeException("Could not store file " + originalFileName + ". Please try again!", ex);
+            throw new RuntimeException("Could not store file " + derivedFileName + ". Please try again!", ex);
+        }
+    }
+
+    /**
+     * 저장소 안의 파일 경로 (저장소 밖을 가리키면 예외)
+     */
+    public Path getFilePath(String fileName) {
+        Path filePath = this.fileStorageLocation.resolve(fileName).normalize();
+        if (!filePath.startsWith(this.fileStorageLocation)) {
+            throw new RuntimeException("Invalid file path " + fileName);
         }
+        return filePath;
     }
 
     public Resource loadFileAsResource(String fileName) {
@@ -75,12 +145,110 @@ public class FileStorageService {
         }
     }
 
+    /**
+     * 파일 삭제 예약 (다른 게시글 이미지가 같은 파일을 참조하면 지우지 않는다)
+     * 호출한 트랜잭션이 커밋될 때 함께 기록되며, FileCleanupService가 참조가 없을 때만 실제로 지운다.
+     */
     public void deleteFile(String fileName) {
+        deleteFiles(List.of(fileName));
+    }
+
+    public void deleteFiles(Collection<String> fileNames) {
+        if (fileNames.isEmpty()) {
+            return;
+        }
+        List<Object[]> batchArgs = fileNames.stream()
+                .distinct()
+                .map(fileName -> new Object[]{fileName})
+                .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate("INSERT INTO pending_file_deletions (file_name, created_at) VALUES (?, NOW())",
+                batchArgs);
+    }
+
+    /**
+     * 실제 파일 삭제 (참조 확인은 호출 측 책임)
+     *
+     * 파일을 먼저 다른 이름으로 옮긴 뒤 canDelete(옮긴 파일의 수정 시각)를 다시 확인하고 지운다.
+     * 확인과 삭제 사이에 같은 내용이 다시 저장되면 옮긴 파일의 시각이 새것이거나 새 파일이 생기므로,
+     * 방금 저장된 파일을 지우지 않는다. 확인에 실패하면 원래 이름으로 되돌린다.
+     *
+     * @return 지웠거나 이미 없으면 true, 되돌렸으면 false
+     */
+    public boolean purgeFile(String fileName, Predicate<FileTime> canDelete) {
+        Path filePath = getFilePath(fileName);
+        Path trashPath = filePath.resolveSibling(".purge-" + UUID.randomUUID());
         try {
-            Path filePath = this.fileStorageLocation.resolve(fileName).normalize();
-            Files.deleteIfExists(filePath);
+            try {
+                Files.move(filePath, trashPath, StandardCopyOption.ATOMIC_MOVE);
+            } catch (NoSuchFileException ex) {
+                return true;
+            }
+
+            if (canDelete.test(Files.getLastModifiedTime(trashPath))) {
+                Files.delete(trashPath);
+                return true;
+            }
+
+            try {
+                Files.move(trashPath, filePath, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException ex) {
+                // 그 사이 같은 내용이 다시 저장됐다 (새 파일을 쓴다)
+                if (!Files.exists(filePath)) {
+                    throw ex;
+                }
+                Files.deleteIfExists(trashPath);
+            }
+            return false;
         } catch (IOException ex) {
             throw new RuntimeException("Error deleting file " + fileName, ex);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 마지막으로 저장(또는 중복 저장)된 시각. 파일이 없으면 null
+     */
+    public FileTime getLastModifiedTime(String fileName) {
+        try {
+            return Files.getLastModifiedTime(getFilePath(fileName));
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    private Path createTempFile() throws IOException {
+        Path targetLocation = this.fileStorageLocation.resolve(POSTS_DIR);
+        Files.createDirectories(targetLocation);
+        return targetLocation.resolve(".upload-" + UUID.randomUUID());
+    }
+
+    /**
+     * 중복 저장 시각을 기록해 삭제 대기 중인 파일이 바로 지워지지 않도록 한다
+     * 정리 작업이 파일을 옮겨 갔으면 false (새로 써야 함)
+     */
+    private boolean touchIfExists(Path filePath) throws IOException {
+        try {
+            Files.setLastModifiedTime(filePath, FileTime.fromMillis(System.currentTimeMillis()));
+            return true;
+        } catch (NoSuchFileException ex) {
+            return false;
+        }
+    }
+
+    private static String extensionOf(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        if (dot < 0 || dot == fileName.length() - 1) {
+            return "";
+        }
+        String extension = fileName.substring(dot).toLowerCase(Locale.ROOT);
+        // 확장자로 쓸 수 없는 문자가 있으면 버린다
+        return extension.matches("\\.[a-z0-9]{1,10}") ? extension : "";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.bsslab.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    private static final int INSERTIONS = 10_000;
+
+    @Test
+    void emptyFilterContainsNothing() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, 0.01);
+
+        assertThat(filter.mightContain("user-1")).isFalse();
+        assertThat(filter.mightContain("")).isFalse();
+    }
+
+    @Test
+    void neverReportsInsertedValueAsMissing() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, 0.01);
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put("user-" + i);
+        }
+
+        for (int i = 0; i < INSERTIONS; i++) {
+            assertThat(filter.mightContain("user-" + i)).as("user-%d", i).isTrue();
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTarget() {
+        for (double target : new double[]{0.01, 0.001}) {
+            BloomFilter filter = new BloomFilter(INSERTIONS, target);
+            for (int i = 0; i < INSERTIONS; i++) {
+                filter.put("user-" + i);
+            }
+
+            int probes = 200_000;
+            int falsePositives = 0;
+            for (int i = 0; i < probes; i++) {
+                if (filter.mightContain("other-" + i)) {
+                    falsePositives++;
+                }
+            }
+            // 예상 원소 수만큼 넣었을 때 목표 오탐률의 2배를 넘지 않아야 한다
+            assertThat((double) falsePositives / probes).as("target %s", target).isLessThan(target * 2);
+        }
+    }
+
+    @Test
+    void toleratesOutOfRangeArguments() {
+        // 0 이하의 예상 원소 수나 범위를 벗어난 오탐률도 동작하는 필터를 만든다
+        BloomFilter filter = new BloomFilter(0, 2.0);
+        filter.put("only");
+
+        assertThat(filter.mightContain("only")).isTrue();
+    }
+}
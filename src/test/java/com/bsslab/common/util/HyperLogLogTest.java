@@ -0,0 +1,110 @@
+package com.bsslab.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HyperLogLogTest {
+
+    // 레지스터 4096개, 표준 오차 약 1.6%
+    private static final int PRECISION = 12;
+    private static final int DENSE_LENGTH = 2 + (1 << PRECISION);
+
+    @Test
+    void estimatesWithinErrorBounds() {
+        for (int count : new int[]{1_000, 10_000, 100_000, 1_000_000}) {
+            HyperLogLog sketch = sketchOf(0, count);
+
+            // 표준 오차의 약 3배
+            double error = Math.abs(sketch.estimate() - count) / (double) count;
+            assertThat(error).as("count %d, estimate %d", count, sketch.estimate()).isLessThan(0.05);
+        }
+    }
+
+    @Test
+    void smallCountsAreNearlyExact() {
+        assertThat(new HyperLogLog(PRECISION).estimate()).isEqualTo(0L);
+        assertThat(sketchOf(0, 10).estimate()).isBetween(9L, 11L);
+    }
+
+    @Test
+    void ignoresDuplicates() {
+        HyperLogLog sketch = sketchOf(0, 1_000);
+        long estimate = sketch.estimate();
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(sketch.offer("viewer-" + i)).isFalse();
+        }
+        assertThat(sketch.estimate()).isEqualTo(estimate);
+    }
+
+    @Test
+    void mergeEqualsSketchOfUnion() {
+        HyperLogLog left = sketchOf(0, 30_000);
+        HyperLogLog right = sketchOf(20_000, 50_000);
+
+        left.merge(right);
+
+        assertThat(left.toBytes()).isEqualTo(sketchOf(0, 50_000).toBytes());
+        assertThatThrownBy(() -> left.merge(new HyperLogLog(PRECISION + 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void roundTripsSparseSketch() {
+        HyperLogLog sketch = sketchOf(0, 100);
+
+        byte[] bytes = sketch.toBytes();
+        HyperLogLog restored = HyperLogLog.fromBytes(bytes);
+
+        // 0이 아닌 레지스터마다 3바이트
+        assertThat(bytes.length).isLessThan(DENSE_LENGTH);
+        assertThat(restored.getPrecision()).isEqualTo(PRECISION);
+        assertThat(restored.estimate()).isEqualTo(sketch.estimate());
+        assertThat(restored.toBytes()).isEqualTo(bytes);
+    }
+
+    @Test
+    void roundTripsDenseSketch() {
+        HyperLogLog sketch = sketchOf(0, 100_000);
+
+        byte[] bytes = sketch.toBytes();
+        HyperLogLog restored = HyperLogLog.fromBytes(bytes);
+
+        assertThat(bytes.length).isEqualTo(DENSE_LENGTH);
+        assertThat(restored.estimate()).isEqualTo(sketch.estimate());
+        assertThat(restored.toBytes()).isEqualTo(bytes);
+    }
+
+    @Test
+    void switchesFromSparseToDenseAsSketchFills() {
+        HyperLogLog sketch = new HyperLogLog(PRECISION);
+        assertThat(HyperLogLog.fromBytes(sketch.toBytes()).isEmpty()).isTrue();
+
+        // 저장된 sparse sketch에 조회자가 늘어 dense가 되어도 같은 레지스터로 복원된다
+        HyperLogLog stored = HyperLogLog.fromBytes(sketchOf(0, 500).toBytes());
+        for (int i = 500; i < 20_000; i++) {
+            stored.offer("viewer-" + i);
+        }
+        assertThat(stored.toBytes().length).isEqualTo(DENSE_LENGTH);
+        assertThat(stored.toBytes()).isEqualTo(sketchOf(0, 20_000).toBytes());
+    }
+
+    @Test
+    void rejectsInvalidInput() {
+        assertThatThrownBy(() -> new HyperLogLog(3)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HyperLogLog(17)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HyperLogLog.fromBytes(new byte[]{9, PRECISION}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown HyperLogLog format");
+    }
+
+    private static HyperLogLog sketchOf(int from, int to) {
+        HyperLogLog sketch = new HyperLogLog(PRECISION);
+        for (int i = from; i < to; i++) {
+            sketch.offer("viewer-" + i);
+        }
+        return sketch;
+    }
+}
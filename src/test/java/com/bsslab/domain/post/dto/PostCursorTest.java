@@ -0,0 +1,72 @@
+package com.bsslab.domain.post.dto;
+
+import com.bsslab.global.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostCursorTest {
+
+    @Test
+    void roundTrips() {
+        PostCursor cursor = new PostCursor(LocalDateTime.of(2024, 3, 1, 12, 30, 5, 123_456_000), 42L);
+
+        String encoded = cursor.encode();
+
+        // URL에 그대로 넣을 수 있는 문자만 사용
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+        assertThat(PostCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void roundTripsWholeSecondsAndFirstPage() {
+        // 초 이하가 0이면 LocalDateTime.toString()이 초(또는 분)까지만 쓴다
+        PostCursor onMinute = new PostCursor(LocalDateTime.of(2024, 3, 1, 12, 30), 7L);
+
+        assertThat(PostCursor.decode(onMinute.encode())).isEqualTo(onMinute);
+        assertThat(PostCursor.decode(PostCursor.FIRST.encode())).isEqualTo(PostCursor.FIRST);
+    }
+
+    @Test
+    void emptyCursorMeansFirstPage() {
+        assertThat(PostCursor.decode(null)).isEqualTo(PostCursor.FIRST);
+        assertThat(PostCursor.decode("")).isEqualTo(PostCursor.FIRST);
+        assertThat(PostCursor.decode("  ")).isEqualTo(PostCursor.FIRST);
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        assertInvalid("not base64!");
+        assertInvalid(encode("2024-03-01T12:30:05"));
+        assertInvalid(encode("yesterday|42"));
+        assertInvalid(encode("2024-03-01T12:30:05|forty-two"));
+        assertInvalid(encode("2024-03-01T12:30:05|"));
+        assertInvalid(encode("|42"));
+    }
+
+    @Test
+    void rejectsTamperedCursor() {
+        String encoded = new PostCursor(LocalDateTime.of(2024, 3, 1, 12, 30, 5), 42L).encode();
+
+        // 날짜 부분(앞쪽)의 한 글자를 바꾸면 해석할 수 없는 값이 된다
+        char replaced = encoded.charAt(0) == 'A' ? 'B' : 'A';
+        assertInvalid(replaced + encoded.substring(1));
+        // 잘린 커서
+        assertInvalid(encoded.substring(0, encoded.length() / 2));
+    }
+
+    private static void assertInvalid(String cursor) {
+        assertThatThrownBy(() -> PostCursor.decode(cursor))
+                .as("cursor %s", cursor)
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
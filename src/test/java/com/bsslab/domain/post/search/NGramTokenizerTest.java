@@ -0,0 +1,37 @@
+package com.bsslab.domain.post.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NGramTokenizerTest {
+
+    @Test
+    void splitsWordsIntoOverlappingBigrams() {
+        assertThat(NGramTokenizer.tokenize("스프링을 배우자"))
+                .containsExactly("스프", "프링", "링을", "배우", "우자");
+    }
+
+    @Test
+    void keepsSingleCharacterWords() {
+        assertThat(NGramTokenizer.tokenize("a 자바 b")).containsExactly("a", "자바", "b");
+    }
+
+    @Test
+    void normalizesCaseAndWidth() {
+        // NFKC로 전각 문자를 반각으로 바꾸고 소문자로 맞춘다
+        assertThat(NGramTokenizer.words("Ｓｐｒｉｎｇ BOOT")).containsExactly("spring", "boot");
+    }
+
+    @Test
+    void treatsPunctuationAndWhitespaceAsSeparators() {
+        assertThat(NGramTokenizer.words("spring-boot, 3.2!\n(JPA)")).containsExactly("spring", "boot", "3", "2", "jpa");
+    }
+
+    @Test
+    void handlesEmptyInput() {
+        assertThat(NGramTokenizer.tokenize(null)).isEmpty();
+        assertThat(NGramTokenizer.tokenize("")).isEmpty();
+        assertThat(NGramTokenizer.tokenize(" ... ")).isEmpty();
+    }
+}
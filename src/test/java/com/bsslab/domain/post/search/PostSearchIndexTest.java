@@ -0,0 +1,235 @@
+package com.bsslab.domain.post.search;
+
+import com.bsslab.domain.post.entity.Post;
+import com.bsslab.domain.post.event.PostChangedEvent;
+import com.bsslab.domain.post.event.PostsChangedEvent;
+import com.bsslab.domain.post.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostSearchIndexTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 1, 12, 0);
+
+    // 게시글 테이블 대신 쓰는 메모리 저장소 (id 순)
+    private final Map<Long, SearchView> table = new TreeMap<>();
+    private PostSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PostSearchIndex(repository());
+    }
+
+    @Test
+    void ranksTitleMatchAboveContentMatch() {
+        save(1L, "오늘의 일기", "점심을 먹고 스프링을 공부했다");
+        save(2L, "스프링 입문", "처음 시작하는 사람을 위한 안내");
+        index.rebuild();
+
+        assertThat(search("스프링")).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void ranksFrequentAndShortMatchesHigher() {
+        save(1L, "메모", "자바 이야기와 그 밖의 여러 가지 긴 이야기를 적어 둔 글입니다 정말 길어요");
+        save(2L, "메모", "자바 자바 자바");
+        save(3L, "메모", "자바 이야기");
+        index.rebuild();
+
+        // 빈도가 높을수록, 같은 빈도면 문서가 짧을수록 앞에 온다
+        assertThat(search("자바")).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    void matchesOnlyPostsContainingEveryBigram() {
+        save(1L, "스프링 부트", "설정 정리");
+        save(2L, "스프링", "시큐리티 정리");
+        save(3L, "부트캠프", "후기");
+        index.rebuild();
+
+        assertThat(search("스프링 부트")).containsExactly(1L);
+        assertThat(search("스프링을")).isEmpty();
+    }
+
+    @Test
+    void pagesByOffsetAndReportsTotalHits() {
+        for (long id = 1; id <= 5; id++) {
+            save(id, "공지 " + id, "내용");
+        }
+        index.rebuild();
+
+        PostSearchIndex.SearchResult result = index.search("공지", 2, 2).orElseThrow();
+
+        assertThat(result.totalHits()).isEqualTo(5L);
+        assertThat(result.postIds()).hasSize(2);
+    }
+
+    @Test
+    void fallsBackForQueriesWithoutBigrams() {
+        save(1L, "a b c", "d");
+        index.rebuild();
+
+        assertThat(index.search("a", 0, 10).isPresent()).isFalse();
+        assertThat(index.search("   ", 0, 10).isPresent()).isFalse();
+    }
+
+    @Test
+    void isNotReadyBeforeRebuild() {
+        save(1L, "스프링", "내용");
+
+        assertThat(index.isReady()).isFalse();
+        assertThat(index.search("스프링", 0, 10).isPresent()).isFalse();
+    }
+
+    @Test
+    void removesDeletedAndUnpublishedPosts() {
+        save(1L, "스프링 입문", "내용");
+        save(2L, "스프링 심화", "내용");
+        save(3L, "스프링 정리", "내용");
+        index.rebuild();
+
+        table.remove(1L);
+        index.onPostChanged(new PostChangedEvent(1L));
+        table.put(2L, table.get(2L).withStatus(Post.Status.DRAFT));
+        index.onPostChanged(new PostChangedEvent(2L));
+
+        assertThat(search("스프링")).containsExactly(3L);
+        // 지운 게시글에만 있던 bigram은 색인에서도 사라진다
+        assertThat(search("입문")).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void reindexesUpdatedPost() {
+        save(1L, "스프링 입문", "내용");
+        index.rebuild();
+
+        save(1L, "코틀린 입문", "내용");
+        index.onPostChanged(new PostChangedEvent(1L));
+
+        assertThat(search("스프링")).isEmpty();
+        assertThat(search("코틀린")).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void removesPostsMissingFromBulkChange() {
+        save(1L, "스프링 입문", "내용");
+        save(2L, "스프링 심화", "내용");
+        save(3L, "스프링 정리", "내용");
+        index.rebuild();
+
+        table.remove(1L);
+        table.remove(3L);
+        index.onPostsChanged(new PostsChangedEvent(List.of(1L, 2L, 3L)));
+
+        assertThat(search("스프링")).containsExactly(2L);
+    }
+
+    @Test
+    void reconcileRemovesPostsDeletedElsewhere() throws InterruptedException {
+        save(1L, "스프링 입문", "내용");
+        save(2L, "스프링 심화", "내용");
+        save(3L, "스프링 정리", "내용");
+        index.rebuild();
+        // 비교 시작 전에 색인된 문서만 지우므로 시각이 지나도록 잠시 기다린다
+        Thread.sleep(5);
+
+        // 다른 노드에서 삭제되어 이벤트가 오지 않은 경우
+        table.remove(2L);
+        index.reconcile();
+
+        assertThat(search("스프링")).containsExactly(1L, 3L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    private List<Long> search(String query) {
+        List<Long> postIds = index.search(query, 0, 10).orElseThrow().postIds();
+        // 점수가 같으면 최신순이고 작성 일시가 같으므로 순서를 비교하는 테스트는 점수가 다르게 만든다
+        return postIds;
+    }
+
+    private void save(Long id, String title, String content) {
+        table.put(id, new SearchView(id, title, content, Post.Status.PUBLISHED, CREATED_AT));
+    }
+
+    private PostRepository repository() {
+        return (PostRepository) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{PostRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findSearchDocumentsAfter" -> table.values().stream()
+                            .filter(post -> post.getId() > (Long) args[0] && post.getStatus() == args[1])
+                            .limit(((Pageable) args[2]).getPageSize())
+                            .map(PostRepository.PostSearchView.class::cast)
+                            .toList();
+                    case "findSearchDocumentById" -> Optional.ofNullable(table.get((Long) args[0]));
+                    case "findSearchDocumentsByIdIn" -> ((Collection<?>) args[0]).stream()
+                            .map(table::get)
+                            .filter(post -> post != null)
+                            .map(PostRepository.PostSearchView.class::cast)
+                            .toList();
+                    case "findIdsByStatusAfter" -> table.values().stream()
+                            .filter(post -> post.getId() > (Long) args[0] && post.getStatus() == args[1])
+                            .limit(((Pageable) args[2]).getPageSize())
+                            .map(SearchView::getId)
+                            .toList();
+                    case "toString" -> "PostRepository(test)";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private record SearchView(Long id, String title, String content, Post.Status status, LocalDateTime createdAt)
+            implements PostRepository.PostSearchView {
+
+        SearchView withStatus(Post.Status status) {
+            return new SearchView(id, title, content, status, createdAt);
+        }
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getTitle() {
+            return title;
+        }
+
+        @Override
+        public String getPlainContent() {
+            return content;
+        }
+
+        @Override
+        public byte[] getCompressedContent() {
+            return null;
+        }
+
+        @Override
+        public Post.Status getStatus() {
+            return status;
+        }
+
+        @Override
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        @Override
+        public String getContent() {
+            return content;
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.bsslab.global.file;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MultipartStreamParserTest {
+
+    private static final String BOUNDARY = "----TestBoundary7MA4YWxkTrZu0gW";
+
+    @Test
+    void readsFilePartsAndFields() throws IOException {
+        byte[] body = new Body()
+                .file("images", "a.jpg", "image/jpeg", bytes("first"))
+                .field("note", "hello")
+                .file("images", "한글 이름;b.png", "image/png", bytes("second"))
+                .close();
+
+        MultipartStreamParser parser = parser(body);
+
+        MultipartStreamParser.Part first = parser.nextPart();
+        assertThat(first.isFile()).isTrue();
+        assertThat(first.name()).isEqualTo("images");
+        assertThat(first.fileName()).isEqualTo("a.jpg");
+        assertThat(first.contentType()).isEqualTo("image/jpeg");
+        assertThat(first.inputStream().readAllBytes()).isEqualTo(bytes("first"));
+
+        MultipartStreamParser.Part field = parser.nextPart();
+        assertThat(field.isFile()).isFalse();
+        assertThat(field.name()).isEqualTo("note");
+        // 읽지 않은 파트는 다음 파트로 넘어갈 때 버려진다
+
+        MultipartStreamParser.Part second = parser.nextPart();
+        assertThat(second.fileName()).isEqualTo("한글 이름;b.png");
+        assertThat(second.inputStream().readAllBytes()).isEqualTo(bytes("second"));
+
+        assertThat(parser.nextPart()).isNull();
+        assertThat(parser.nextPart()).isNull();
+    }
+
+    @Test
+    void findsDelimiterSplitAcrossBufferBoundary() throws IOException {
+        // 내용 길이를 바꿔 가며 구분자가 16KB 버퍼 경계에 걸치는 모든 위치를 지나가게 한다
+        for (int length = 16 * 1024 - 300; length <= 16 * 1024 + 100; length++) {
+            byte[] content = new byte[length];
+            Arrays.fill(content, (byte) 'x');
+            byte[] body = new Body()
+                    .file("images", "a.bin", "application/octet-stream", content)
+                    .file("images", "b.bin", "application/octet-stream", bytes("tail"))
+                    .close();
+
+            for (InputStream in : new InputStream[]{new ByteArrayInputStream(body), new Trickle(body)}) {
+                MultipartStreamParser parser = new MultipartStreamParser(in, BOUNDARY);
+                assertThat(parser.nextPart().inputStream().readAllBytes()).as("length %d", length).isEqualTo(content);
+                assertThat(parser.nextPart().inputStream().readAllBytes()).isEqualTo(bytes("tail"));
+                assertThat(parser.nextPart()).isNull();
+            }
+        }
+    }
+
+    @Test
+    void keepsContentThatOnlyResemblesDelimiter() throws IOException {
+        byte[] content = bytes("a\r\n--" + BOUNDARY.substring(0, BOUNDARY.length() - 1) + "X b\r\n--");
+        byte[] body = new Body().file("images", "a.txt", "text/plain", content).close();
+
+        MultipartStreamParser parser = parser(body);
+
+        assertThat(parser.nextPart().inputStream().readAllBytes()).isEqualTo(content);
+        assertThat(parser.nextPart()).isNull();
+    }
+
+    @Test
+    void skipsPreambleAndTransportPadding() throws IOException {
+        byte[] body = bytes("preamble text\r\n"
+                + "--" + BOUNDARY + " \t \r\n"
+                + "Content-Disposition: form-data; name=\"images\"; filename=\"a.txt\"\r\n\r\n"
+                + "data\r\n"
+                + "--" + BOUNDARY + "--\r\nepilogue");
+
+        MultipartStreamParser parser = parser(body);
+
+        assertThat(parser.nextPart().inputStream().readAllBytes()).isEqualTo(bytes("data"));
+        assertThat(parser.nextPart()).isNull();
+    }
+
+    @Test
+    void readsEmptyPartsAndPartsWithoutHeaders() throws IOException {
+        byte[] body = bytes("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"images\"; filename=\"\"\r\n"
+                + "Content-Type: application/octet-stream\r\n\r\n"
+                + "\r\n"
+                + "--" + BOUNDARY + "\r\n"
+                + "\r\n"
+                + "no headers\r\n"
+                + "--" + BOUNDARY + "--\r\n");
+
+        MultipartStreamParser parser = parser(body);
+
+        MultipartStreamParser.Part empty = parser.nextPart();
+        assertThat(empty.fileName()).isEmpty();
+        assertThat(empty.inputStream().read()).isEqualTo(-1);
+
+        MultipartStreamParser.Part headerless = parser.nextPart();
+        assertThat(headerless.name()).isNull();
+        assertThat(headerless.isFile()).isFalse();
+        assertThat(headerless.inputStream().readAllBytes()).isEqualTo(bytes("no headers"));
+
+        assertThat(parser.nextPart()).isNull();
+    }
+
+    @Test
+    void rejectsTruncatedBody() throws IOException {
+        byte[] body = bytes("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"images\"; filename=\"a.txt\"\r\n\r\n"
+                + "cut off here");
+
+        MultipartStreamParser.Part part = parser(body).nextPart();
+
+        assertThatThrownBy(() -> part.inputStream().readAllBytes())
+                .isInstanceOf(MultipartStreamParser.MalformedMultipartException.class);
+    }
+
+    @Test
+    void rejectsTruncatedHeaders() {
+        byte[] body = bytes("--" + BOUNDARY + "\r\nContent-Disposition: form-data; name=\"ima");
+
+        assertThatThrownBy(() -> parser(body).nextPart())
+                .isInstanceOf(MultipartStreamParser.MalformedMultipartException.class);
+    }
+
+    @Test
+    void rejectsMissingClosingDelimiter() throws IOException {
+        byte[] body = bytes("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"note\"\r\n\r\n"
+                + "value\r\n"
+                + "--" + BOUNDARY);
+
+        MultipartStreamParser parser = parser(body);
+        parser.nextPart();
+
+        assertThatThrownBy(parser::nextPart)
+                .isInstanceOf(MultipartStreamParser.MalformedMultipartException.class);
+    }
+
+    @Test
+    void rejectsOversizedHeaders() {
+        byte[] body = bytes("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"images\"; filename=\"a.txt\"\r\n"
+                + "X-Padding: " + "a".repeat(10_000) + "\r\n\r\n"
+                + "data\r\n"
+                + "--" + BOUNDARY + "--\r\n");
+
+        assertThatThrownBy(() -> parser(body).nextPart())
+                .isInstanceOf(MultipartStreamParser.MalformedMultipartException.class)
+                .hasMessageContaining("too large");
+    }
+
+    @Test
+    void extractsBoundaryFromContentType() {
+        assertThat(MultipartStreamParser.extractBoundary("multipart/form-data; boundary=abc")).isEqualTo("abc");
+        assertThat(MultipartStreamParser.extractBoundary("Multipart/Form-Data; charset=UTF-8; boundary=\"a b\""))
+                .isEqualTo("a b");
+        assertThat(MultipartStreamParser.extractBoundary("multipart/form-data")).isNull();
+        assertThat(MultipartStreamParser.extractBoundary("multipart/form-data; boundary=" + "a".repeat(71))).isNull();
+        assertThat(MultipartStreamParser.extractBoundary("application/json")).isNull();
+        assertThat(MultipartStreamParser.extractBoundary(null)).isNull();
+    }
+
+    private static MultipartStreamParser parser(byte[] body) {
+        return new MultipartStreamParser(new ByteArrayInputStream(body), BOUNDARY);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * multipart 본문 작성기
+     */
+    static class Body {
+
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        Body file(String name, String fileName, String contentType, byte[] content) {
+            write("--" + BOUNDARY + "\r\n"
+                    + "Content-Disposition: form-data; name=\"" + name + "\"; filename=\"" + fileName + "\"\r\n"
+                    + "Content-Type: " + contentType + "\r\n\r\n");
+            out.writeBytes(content);
+            write("\r\n");
+            return this;
+        }
+
+        Body field(String name, String value) {
+            write("--" + BOUNDARY + "\r\n"
+                    + "Content-Disposition: form-data; name=\"" + name + "\"\r\n\r\n"
+                    + value + "\r\n");
+            return this;
+        }
+
+        byte[] close() {
+            write("--" + BOUNDARY + "--\r\n");
+            return out.toByteArray();
+        }
+
+        static String contentType() {
+            return "multipart/form-data; boundary=" + BOUNDARY;
+        }
+
+        private void write(String value) {
+            out.writeBytes(bytes(value));
+        }
+    }
+
+    /**
+     * 한 번에 몇 바이트씩만 돌려주는 스트림 (네트워크에서 조금씩 도착하는 본문)
+     */
+    private static class Trickle extends FilterInputStream {
+
+        private int next = 1;
+
+        Trickle(byte[] body) {
+            super(new ByteArrayInputStream(body));
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            next = next % 997 + 1;
+            return super.read(b, off, Math.min(len, next));
+        }
+    }
+}
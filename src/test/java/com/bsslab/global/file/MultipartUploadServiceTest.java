@@ -0,0 +1,261 @@
+package com.bsslab.global.file;
+
+import com.bsslab.global.exception.InvalidUploadException;
+import com.bsslab.global.exception.PayloadTooLargeException;
+import com.bsslab.global.service.FileStorageService;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.DelegatingServletInputStream;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MultipartUploadServiceTest {
+
+    private static final int MAX_FILE_SIZE = 4 * 1024;
+    private static final int MAX_REQUEST_SIZE = 16 * 1024;
+
+    @TempDir
+    Path uploadDir;
+
+    private final List<String> scheduledDeletions = new ArrayList<>();
+    private MultipartUploadService multipartUploadService;
+
+    @BeforeEach
+    void setUp() {
+        // 삭제 예약(pending_file_deletions INSERT)만 기록
+        JdbcTemplate jdbcTemplate = new JdbcTemplate() {
+            @Override
+            public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+                batchArgs.forEach(args -> scheduledDeletions.add((String) args[0]));
+                return new int[batchArgs.size()];
+            }
+        };
+        FileStorageService fileStorageService = new FileStorageService(uploadDir.toString(), jdbcTemplate);
+        multipartUploadService = new MultipartUploadService(fileStorageService,
+                DataSize.ofBytes(MAX_FILE_SIZE), DataSize.ofBytes(MAX_REQUEST_SIZE));
+    }
+
+    @Test
+    void storesFilePartsUnderContentHash() throws IOException {
+        byte[] image = filled(3000, 'a');
+        MockHttpServletRequest request = request(new MultipartStreamParserTest.Body()
+                .field("note", "ignored")
+                .file("images", "photo.JPG", "image/jpeg", image)
+                .file("images", "", "application/octet-stream", new byte[0])
+                .file("other", "other.png", "image/png", filled(10, 'b'))
+                .file("images", "copy.jpeg", "image/jpeg", image)
+                .close());
+
+        List<StoredUpload> uploads = multipartUploadService.receive(request, "images", stored -> stored);
+
+        assertThat(uploads).hasSize(2);
+        StoredUpload first = uploads.get(0);
+        assertThat(first.fileName()).isEqualTo("posts/" + sha256(image) + ".jpg");
+        assertThat(first.originalFileName()).isEqualTo("photo.JPG");
+        assertThat(first.contentType()).isEqualTo("image/jpeg");
+        assertThat(first.size()).isEqualTo(3000L);
+        assertThat(Files.readAllBytes(uploadDir.resolve(first.fileName()))).isEqualTo(image);
+        // 같은 내용은 한 벌만 저장
+        assertThat(uploads.get(1).fileName()).isEqualTo("posts/" + sha256(image) + ".jpeg");
+        assertThat(storedFiles()).hasSize(2);
+        assertThat(scheduledDeletions).isEmpty();
+    }
+
+    @Test
+    void rejectsFileOverLimitWhileStreaming() {
+        MockHttpServletRequest request = request(new MultipartStreamParserTest.Body()
+                .file("images", "small.png", "image/png", filled(100, 'a'))
+                .file("images", "big.png", "image/png", filled(MAX_FILE_SIZE + 1, 'b'))
+                .close());
+
+        assertThatThrownBy(() -> multipartUploadService.receive(request, "images", stored -> stored))
+                .isInstanceOf(PayloadTooLargeException.class)
+                .hasMessageContaining("big.png");
+
+        // 제한을 넘은 파일은 남지 않고, 먼저 저장된 파일은 삭제 예약된다
+        assertThat(storedFiles()).hasSize(1);
+        assertThat(scheduledDeletions).contains("posts/" + sha256(filled(100, 'a')) + ".png");
+    }
+
+    @Test
+    void acceptsFileExactlyAtLimit() {
+        MockHttpServletRequest request = request(new MultipartStreamParserTest.Body()
+                .file("images", "edge.png", "image/png", filled(MAX_FILE_SIZE, 'a'))
+                .close());
+
+        List<StoredUpload> uploads = multipartUploadService.receive(request, "images", stored -> stored);
+
+        assertThat(uploads.get(0).size()).isEqualTo((long) MAX_FILE_SIZE);
+    }
+
+    @Test
+    void rejectsDeclaredRequestOverLimitBeforeReading() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/posts/1/images") {
+            @Override
+            public long getContentLengthLong() {
+                return MAX_REQUEST_SIZE + 1;
+            }
+
+            @Override
+            public ServletInputStream getInputStream() {
+                throw new AssertionError("body must not be read");
+            }
+        };
+        request.setContentType(MultipartStreamParserTest.Body.contentType());
+
+        assertThatThrownBy(() -> multipartUploadService.receive(request, "images", stored -> stored))
+                .isInstanceOf(PayloadTooLargeException.class);
+    }
+
+    @Test
+    void rejectsStreamedRequestOverLimit() {
+        MultipartStreamParserTest.Body body = new MultipartStreamParserTest.Body();
+        for (int i = 0; i < 5; i++) {
+            body.file("images", i + ".png", "image/png", filled(MAX_FILE_SIZE - 100, (char) ('a' + i)));
+        }
+        // 길이를 알 수 없는 본문 (chunked)
+        MockHttpServletRequest request = streamingRequest(new ByteArrayInputStream(body.close()));
+
+        assertThatThrownBy(() -> multipartUploadService.receive(request, "images", stored -> stored))
+                .isInstanceOf(PayloadTooLargeException.class)
+                .hasMessageContaining("Request");
+
+        assertThat(scheduledDeletions).isNotEmpty();
+        assertThat(scheduledDeletions.size()).isLessThanOrEqualTo(4);
+        assertThat(temporaryFiles()).isEmpty();
+    }
+
+    @Test
+    void reportsClientAbortAsInvalidUpload() {
+        byte[] body = new MultipartStreamParserTest.Body()
+                .file("images", "a.png", "image/png", filled(3000, 'a'))
+                .close();
+        InputStream aborting = new InputStream() {
+            private int position;
+
+            @Override
+            public int read() throws IOException {
+                if (position == 1000) {
+                    throw new IOException("Connection reset by peer");
+                }
+                return body[position++] & 0xff;
+            }
+        };
+
+        assertThatThrownBy(() -> multipartUploadService.receive(streamingRequest(aborting), "images", stored -> stored))
+                .isInstanceOf(InvalidUploadException.class);
+        assertThat(storedFiles()).isEmpty();
+        assertThat(temporaryFiles()).isEmpty();
+    }
+
+    @Test
+    void reportsTruncatedBodyAsInvalidUpload() {
+        byte[] body = new MultipartStreamParserTest.Body()
+                .file("images", "a.png", "image/png", filled(3000, 'a'))
+                .close();
+        MockHttpServletRequest request = request(Arrays.copyOf(body, 2000));
+
+        assertThatThrownBy(() -> multipartUploadService.receive(request, "images", stored -> stored))
+                .isInstanceOf(InvalidUploadException.class);
+        assertThat(temporaryFiles()).isEmpty();
+    }
+
+    @Test
+    void rejectsNonMultipartRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/posts/1/images");
+        request.setContentType("application/json");
+        request.setContent("{}".getBytes());
+
+        assertThatThrownBy(() -> multipartUploadService.receive(request, "images", stored -> stored))
+                .isInstanceOf(InvalidUploadException.class);
+    }
+
+    @Test
+    void schedulesDeletionWhenHandlerFails() {
+        byte[] image = filled(500, 'a');
+        MockHttpServletRequest request = request(new MultipartStreamParserTest.Body()
+                .file("images", "a.png", "image/png", image)
+                .close());
+
+        assertThatThrownBy(() -> multipartUploadService.receive(request, "images", stored -> {
+            throw new IllegalStateException("insert failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(scheduledDeletions).contains("posts/" + sha256(image) + ".png");
+    }
+
+    private static MockHttpServletRequest request(byte[] body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/posts/1/images");
+        request.setContentType(MultipartStreamParserTest.Body.contentType());
+        request.setContent(body);
+        return request;
+    }
+
+    private static MockHttpServletRequest streamingRequest(InputStream body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/posts/1/images") {
+            @Override
+            public ServletInputStream getInputStream() {
+                return new DelegatingServletInputStream(body);
+            }
+        };
+        request.setContentType(MultipartStreamParserTest.Body.contentType());
+        return request;
+    }
+
+    private List<Path> storedFiles() {
+        return listPosts().stream()
+                .filter(path -> !path.getFileName().toString().startsWith("."))
+                .toList();
+    }
+
+    private List<Path> temporaryFiles() {
+        return listPosts().stream()
+                .filter(path -> path.getFileName().toString().startsWith("."))
+                .toList();
+    }
+
+    private List<Path> listPosts() {
+        Path posts = uploadDir.resolve("posts");
+        if (!Files.isDirectory(posts)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(posts)) {
+            return files.toList();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] filled(int length, char value) {
+        byte[] bytes = new byte[length];
+        Arrays.fill(bytes, (byte) value);
+        return bytes;
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.bsslab.global.security.jwt;
+
+import com.bsslab.domain.user.entity.User;
+import com.bsslab.global.security.service.UserPrincipal;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.security.Key;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtUtilsTest {
+
+    private static final String SECRET = "bsslabTestSecretKey12345678901234567890123456789012345";
+
+    private RevocableKeyRing keyRing;
+    private JwtUtils jwtUtils;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = properties(SECRET, 60_000L);
+        keyRing = new RevocableKeyRing(properties);
+        jwtUtils = new JwtUtils(properties, keyRing);
+    }
+
+    @Test
+    void verifiesTokenAndRestoresPrincipalWithoutLookup() {
+        String token = jwtUtils.generateJwtToken(authentication(principal()));
+
+        Claims claims = jwtUtils.getVerifiedClaims(token).orElseThrow();
+        UserPrincipal principal = jwtUtils.getPrincipalFromClaims(claims).orElseThrow();
+
+        assertThat(claims.getSubject()).isEqualTo("alice");
+        assertThat(claims.getId()).isNotNull();
+        assertThat(principal.getId()).isEqualTo(7L);
+        assertThat(principal.getRole()).isEqualTo(User.Role.ROLE_ADMIN);
+        assertThat(principal.getSecurityVersion()).isEqualTo(3L);
+        assertThat(principal.isEnabled()).isTrue();
+        assertThat(jwtUtils.getUsernameFromJwtToken(token)).isEqualTo("alice");
+    }
+
+    @Test
+    void reusesCachedClaimsForSameToken() {
+        String token = jwtUtils.generateJwtToken(authentication(principal()));
+
+        Claims first = jwtUtils.getVerifiedClaims(token).orElseThrow();
+        Claims second = jwtUtils.getVerifiedClaims(token).orElseThrow();
+
+        // 다시 파싱했다면 새 Claims 객체가 만들어진다
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void dropsCachedClaimsOnceSigningKeyIsRevoked() {
+        String token = jwtUtils.generateJwtToken(authentication(principal()));
+        Claims cached = jwtUtils.getVerifiedClaims(token).orElseThrow();
+
+        keyRing.revoke(keyRing.getSigningKey().id());
+        assertThat(jwtUtils.getVerifiedClaims(token).isPresent()).isFalse();
+        assertThat(jwtUtils.validateJwtToken(token)).isFalse();
+
+        // 캐시 항목이 제거되었으므로 키가 돌아오면 다시 서명을 검증한다
+        keyRing.restore(keyRing.getSigningKey().id());
+        Claims reverified = jwtUtils.getVerifiedClaims(token).orElseThrow();
+        assertThat(reverified).isNotSameAs(cached);
+        assertThat(reverified.getId()).isEqualTo(cached.getId());
+    }
+
+    @Test
+    void rejectsTamperedTokenEvenWhenOriginalIsCached() {
+        String token = jwtUtils.generateJwtToken(authentication(principal()));
+        assertThat(jwtUtils.validateJwtToken(token)).isTrue();
+
+        int position = token.lastIndexOf('.') + 10;
+        char replaced = token.charAt(position) == 'A' ? 'B' : 'A';
+        String tampered = token.substring(0, position) + replaced + token.substring(position + 1);
+
+        assertThat(jwtUtils.validateJwtToken(tampered)).isFalse();
+        assertThat(jwtUtils.validateJwtToken(token)).isTrue();
+    }
+
+    @Test
+    void rejectsTokenSignedWithAnotherSecret() {
+        JwtProperties otherProperties = properties(SECRET + "-other", 60_000L);
+        JwtUtils other = new JwtUtils(otherProperties, new JwtKeyRing(otherProperties));
+
+        String token = other.generateJwtToken(authentication(principal()));
+
+        assertThat(jwtUtils.validateJwtToken(token)).isFalse();
+    }
+
+    @Test
+    void rejectsExpiredToken() {
+        JwtProperties expiredProperties = properties(SECRET, -1_000L);
+        JwtUtils expiring = new JwtUtils(expiredProperties, new JwtKeyRing(expiredProperties));
+
+        String token = expiring.generateJwtToken(authentication(principal()));
+
+        assertThat(expiring.validateJwtToken(token)).isFalse();
+        assertThat(jwtUtils.validateJwtToken(token)).isFalse();
+    }
+
+    @Test
+    void rejectsEmptyAndMalformedTokens() {
+        assertThat(jwtUtils.validateJwtToken(null)).isFalse();
+        assertThat(jwtUtils.validateJwtToken("")).isFalse();
+        assertThat(jwtUtils.validateJwtToken("not-a-jwt")).isFalse();
+    }
+
+    private static JwtProperties properties(String secret, long expiration) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(secret);
+        properties.setExpiration(expiration);
+        properties.getKeyRing().setPath(null);
+        properties.getKeyRing().setRotationEnabled(false);
+        return properties;
+    }
+
+    private static UserPrincipal principal() {
+        return new UserPrincipal(7L, "alice", "{noop}password", User.Role.ROLE_ADMIN, true, 3L);
+    }
+
+    private static Authentication authentication(UserPrincipal principal) {
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    /**
+     * 유예 기간이 끝나 키가 검증에서 빠지는 경우를 흉내 내는 키 저장소
+     */
+    private static class RevocableKeyRing extends JwtKeyRing {
+        private final Set<String> revoked = ConcurrentHashMap.newKeySet();
+
+        RevocableKeyRing(JwtProperties properties) {
+            super(properties);
+        }
+
+        void revoke(String keyId) {
+            revoked.add(keyId);
+        }
+
+        void restore(String keyId) {
+            revoked.remove(keyId);
+        }
+
+        @Override
+        public Optional<Key> findVerificationKey(String keyId) {
+            return revoked.contains(keyId) ? Optional.empty() : super.findVerificationKey(keyId);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.bsslab.global.security.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+    private static final long START = 1_000 * SECOND;
+
+    @Test
+    void allowsBurstUpToLimitThenRejects() {
+        TokenBucket bucket = new TokenBucket(5, 10 * SECOND, START);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryConsume(START)).as("request %d", i).isEqualTo(0L);
+        }
+        // 토큰 하나는 2초(10초 / 5)마다 채워진다
+        assertThat(bucket.tryConsume(START)).isEqualTo(2 * SECOND);
+    }
+
+    @Test
+    void refillsOneTokenPerEmissionInterval() {
+        TokenBucket bucket = new TokenBucket(5, 10 * SECOND, START);
+        for (int i = 0; i < 5; i++) {
+            bucket.tryConsume(START);
+        }
+
+        assertThat(bucket.tryConsume(START + SECOND)).isEqualTo(SECOND);
+        assertThat(bucket.tryConsume(START + 2 * SECOND)).isEqualTo(0L);
+        assertThat(bucket.tryConsume(START + 2 * SECOND)).isEqualTo(2 * SECOND);
+    }
+
+    @Test
+    void rejectedRequestsDoNotConsumeTokens() {
+        TokenBucket bucket = new TokenBucket(2, 2 * SECOND, START);
+        bucket.tryConsume(START);
+        bucket.tryConsume(START);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(bucket.tryConsume(START)).isGreaterThan(0L);
+        }
+        assertThat(bucket.tryConsume(START + SECOND)).isEqualTo(0L);
+    }
+
+    @Test
+    void refillsFullBurstAfterPeriodButNoMore() {
+        TokenBucket bucket = new TokenBucket(3, 3 * SECOND, START);
+        for (int i = 0; i < 3; i++) {
+            bucket.tryConsume(START);
+        }
+
+        // 오래 쉬어도 용량(limit)을 넘겨 쌓이지 않는다
+        long later = START + 60 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            assertThat(bucket.tryConsume(later)).isEqualTo(0L);
+        }
+        assertThat(bucket.tryConsume(later)).isGreaterThan(0L);
+    }
+
+    @Test
+    void becomesIdleOnceFull() {
+        TokenBucket bucket = new TokenBucket(2, 2 * SECOND, START);
+        assertThat(bucket.isIdle(START)).isTrue();
+
+        bucket.tryConsume(START);
+        assertThat(bucket.isIdle(START)).isFalse();
+        assertThat(bucket.isIdle(START + SECOND - 1)).isFalse();
+        assertThat(bucket.isIdle(START + SECOND)).isTrue();
+    }
+
+    @Test
+    void grantsExactlyLimitUnderContention() throws InterruptedException {
+        int limit = 100;
+        TokenBucket bucket = new TokenBucket(limit, 60 * SECOND, START);
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < 1_000; i++) {
+                    if (bucket.tryConsume(START) == 0) {
+                        granted.incrementAndGet();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(granted.get()).isEqualTo(limit);
+    }
+}